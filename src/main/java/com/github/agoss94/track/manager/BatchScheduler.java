@@ -0,0 +1,159 @@
+package com.github.agoss94.track.manager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.io.OutputWriter;
+
+/**
+ * The batch scheduler plans many conferences within one application run. Every
+ * input file is read, dispatched and written on a fixed number of worker
+ * threads, each file with a dispatcher of its own. A line is reported for every
+ * file as soon as it is done and a summary with the throughput once all files
+ * are done. A file, which cannot be planned, is reported and does not stop the
+ * other files.
+ */
+public class BatchScheduler {
+
+    /**
+     * The factory of the dispatchers. Dispatchers keep state while dispatching,
+     * so every file gets a new one.
+     */
+    private final Supplier<Dispatcher> dispatchers;
+
+    /**
+     * The number of worker threads.
+     */
+    private final int workers;
+
+    /**
+     * The stream, to which the progress is reported.
+     */
+    private final PrintStream out;
+
+    /**
+     * Creates a batch scheduler.
+     *
+     * @param dispatchers the factory of the dispatchers.
+     * @param workers     the number of worker threads.
+     * @param out         the stream, to which the progress is reported.
+     * @throws NullPointerException     if the factory or the stream is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the number of workers is not positive.
+     */
+    public BatchScheduler(Supplier<Dispatcher> dispatchers, int workers, PrintStream out) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("The number of workers must be positive.");
+        }
+        this.dispatchers = Objects.requireNonNull(dispatchers);
+        this.workers = workers;
+        this.out = Objects.requireNonNull(out);
+    }
+
+    /**
+     * Returns the input files for the given directory or glob. For a directory all
+     * text files in it are returned, which are no timetables. Otherwise the last
+     * part of the target is a glob like {@code inputs/Conference*.txt}, which is
+     * matched against the file names in its directory. The files are sorted by
+     * name.
+     *
+     * @param target a directory or a glob.
+     * @return the input files.
+     * @throws IOException if the directory cannot be read.
+     */
+    public static List<Path> resolve(String target) throws IOException {
+        Path directory;
+        String glob;
+        if (Files.isDirectory(Paths.get(target))) {
+            directory = Paths.get(target);
+            glob = "*.txt";
+        } else {
+            int separator = Math.max(target.lastIndexOf('/'), target.lastIndexOf(File.separatorChar));
+            directory = Paths.get(separator < 0 ? "." : target.substring(0, separator + 1));
+            glob = target.substring(separator + 1);
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(file.getFileName()))
+                    .filter(file -> !file.getFileName().toString().endsWith("-timetable.txt"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Plans the conference of every input file and writes its timetable next to
+     * it.
+     *
+     * @param files the input files.
+     * @return the number of files, which could not be planned.
+     * @throws NullPointerException if files is {@code null}.
+     */
+    public int run(List<Path> files) {
+        Objects.requireNonNull(files);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                results.add(executor.submit(() -> schedule(file)));
+            }
+            long events = 0;
+            int failed = 0;
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    events += results.get(i).get();
+                } catch (ExecutionException e) {
+                    out.printf("%s: failed (%s)%n", files.get(i), e.getCause().getMessage());
+                    failed++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return files.size() - i + failed;
+                }
+            }
+            double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+            out.printf("%d files, %d events, %d failed in %.0f ms (%.1f files/s, %.0f events/s)%n", files.size(),
+                    events, failed, seconds * 1e3, (files.size() - failed) / seconds, events / seconds);
+            return failed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plans the conference of the given input file and reports it.
+     *
+     * @param file the input file.
+     * @return the number of events.
+     * @throws IOException if the file cannot be read or written.
+     */
+    private int schedule(Path file) throws IOException {
+        long start = System.nanoTime();
+        Collection<Event> events = new InputReader().readFile(file);
+        List<Track> tracks = dispatchers.get().dispatchAll(events);
+        new OutputWriter().writeFile(TrackManager.timetableOf(file), tracks);
+        double millis = (System.nanoTime() - start) / 1e6;
+        out.printf("%s: %d events, %d tracks in %.1f ms%n", file, events.size(), tracks.size(), millis);
+        return events.size();
+    }
+}
@@ -0,0 +1,378 @@
+package com.github.agoss94.track.manager;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A compact track stores the start and the duration of its events as seconds of
+ * the day in sorted arrays instead of a tree of {@link LocalTime} keys. Overlaps
+ * are found by binary search, so adding an event allocates nothing but the
+ * occasional growth of the arrays. The map of start times to events is created
+ * lazily while iterating, so a compact track can be used everywhere a
+ * {@link Track} is expected.
+ * <p>
+ * Unlike a {@link Track}, a compact track only takes start times and durations
+ * of whole seconds and events, which end on the same day.
+ */
+public class CompactTrack extends Track {
+
+    /**
+     * The number of seconds of a day.
+     */
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * Marks the duration of an open end event.
+     */
+    private static final int OPEN_END = -1;
+
+    /**
+     * The start times of the events in seconds of the day in increasing order.
+     */
+    private int[] starts;
+
+    /**
+     * The durations of the events in seconds or {@link #OPEN_END}.
+     */
+    private int[] durations;
+
+    /**
+     * The events.
+     */
+    private Event[] events;
+
+    /**
+     * The number of events.
+     */
+    private int size;
+
+    /**
+     * The number of structural modifications, so iterators fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Creates an empty compact track.
+     */
+    public CompactTrack() {
+        super(Collections.emptyNavigableMap());
+        starts = new int[8];
+        durations = new int[8];
+        events = new Event[8];
+    }
+
+    /**
+     * Creates a compact track with the events of the given track.
+     *
+     * @param track the given track.
+     * @throws NullPointerException     if the track is {@code null}.
+     * @throws IllegalArgumentException if a start time or duration is not a whole
+     *                                  number of seconds or an event ends on the
+     *                                  next day.
+     */
+    public CompactTrack(Map<LocalTime, Event> track) {
+        this();
+        putAll(track);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the start time or the duration is not a
+     *                                  whole number of seconds or the event ends
+     *                                  on the next day.
+     */
+    @Override
+    public Event put(LocalTime start, Event e) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(e);
+        int s = secondsOf(start);
+        int d = e.isOpenEnd() ? OPEN_END : secondsOf(e.getDuration());
+        if (d != OPEN_END && s + d > SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("The event must end on the same day.");
+        }
+        int i = Arrays.binarySearch(starts, 0, size, s);
+        int previous = i >= 0 ? i : -i - 2;
+        int next = i >= 0 ? i + 1 : -i - 1;
+        if (previous >= 0 && (durations[previous] == OPEN_END || starts[previous] + durations[previous] > s)) {
+            throw new IllegalStateException(
+                    "Cannot add event to track. There is an ongoing event until " + endPrevious(start));
+        }
+        if (next < size) {
+            if (d == OPEN_END) {
+                throw new IllegalStateException("Cannot add an open end event before a future event.");
+            } else if (starts[next] < s + d) {
+                throw new IllegalStateException(
+                        String.format("Cannot add event of %smin at %s, because the next event starts at %s",
+                                e.getDuration().toMinutes(), start, LocalTime.ofSecondOfDay(starts[next])));
+            }
+        }
+        if (i >= 0) {
+            // An event without duration is replaced.
+            Event old = events[i];
+            durations[i] = d;
+            events[i] = e;
+            return old;
+        }
+        insert(next, s, d, e);
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Event get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : events[i];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Event remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Event old = events[i];
+        delete(i);
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(events, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a view of the events, whose entries are created while iterating.
+     * The entries cannot be changed, but removed.
+     *
+     * @return a view of the events.
+     */
+    @Override
+    public Set<Entry<LocalTime, Event>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<LocalTime, Event>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalTime ceilingKey(LocalTime time) {
+        int s = time.toSecondOfDay() + (time.getNano() > 0 ? 1 : 0);
+        int i = Arrays.binarySearch(starts, 0, size, s);
+        int ceiling = i >= 0 ? i : -i - 1;
+        return ceiling < size ? LocalTime.ofSecondOfDay(starts[ceiling]) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalTime endPrevious(LocalTime time) {
+        Objects.requireNonNull(time);
+        int i = Arrays.binarySearch(starts, 0, size, time.toSecondOfDay());
+        int floor = i >= 0 ? i : -i - 2;
+        return floor < 0 ? LocalTime.MIN : endOf(floor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalTime end() {
+        return size == 0 ? LocalTime.MIN : endOf(size - 1);
+    }
+
+    /**
+     * Returns the end of the event at the given index.
+     *
+     * @param i the index of the event.
+     * @return the end of the event or {@link LocalTime#MAX} if it is open end.
+     */
+    private LocalTime endOf(int i) {
+        if (durations[i] == OPEN_END) {
+            return LocalTime.MAX;
+        }
+        // An event ending at midnight ends at the start of the day like in a track.
+        return LocalTime.ofSecondOfDay((starts[i] + durations[i]) % SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns the index of the event starting at the given key or a negative
+     * number if there is none.
+     *
+     * @param key the start time.
+     * @return the index of the event or a negative number.
+     */
+    private int indexOf(Object key) {
+        if (!(key instanceof LocalTime) || ((LocalTime) key).getNano() != 0) {
+            return -1;
+        }
+        return Arrays.binarySearch(starts, 0, size, ((LocalTime) key).toSecondOfDay());
+    }
+
+    /**
+     * Inserts the event at the given index.
+     *
+     * @param i the index.
+     * @param s the start in seconds of the day.
+     * @param d the duration in seconds or {@link #OPEN_END}.
+     * @param e the event.
+     */
+    private void insert(int i, int s, int d, Event e) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, 2 * size);
+            durations = Arrays.copyOf(durations, 2 * size);
+            events = Arrays.copyOf(events, 2 * size);
+        }
+        System.arraycopy(starts, i, starts, i + 1, size - i);
+        System.arraycopy(durations, i, durations, i + 1, size - i);
+        System.arraycopy(events, i, events, i + 1, size - i);
+        starts[i] = s;
+        durations[i] = d;
+        events[i] = e;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Deletes the event at the given index.
+     *
+     * @param i the index.
+     */
+    private void delete(int i) {
+        System.arraycopy(starts, i + 1, starts, i, size - i - 1);
+        System.arraycopy(durations, i + 1, durations, i, size - i - 1);
+        System.arraycopy(events, i + 1, events, i, size - i - 1);
+        events[--size] = null;
+        modCount++;
+    }
+
+    /**
+     * Returns the given time in seconds of the day.
+     *
+     * @param time the time.
+     * @return the seconds of the day.
+     * @throws IllegalArgumentException if the time is not a whole number of
+     *                                  seconds.
+     */
+    private static int secondsOf(LocalTime time) {
+        if (time.getNano() != 0) {
+            throw new IllegalArgumentException("The start must be a whole number of seconds.");
+        }
+        return time.toSecondOfDay();
+    }
+
+    /**
+     * Returns the given duration in seconds.
+     *
+     * @param duration the duration.
+     * @return the seconds of the duration.
+     * @throws IllegalArgumentException if the duration is negative, longer than a
+     *                                  day or not a whole number of seconds.
+     */
+    private static int secondsOf(Duration duration) {
+        if (duration.isNegative() || duration.getNano() != 0 || duration.getSeconds() > SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("The duration must be a whole number of seconds within a day.");
+        }
+        return (int) duration.getSeconds();
+    }
+
+    /**
+     * Iterates over the events and creates the entries on the fly.
+     */
+    private class EntryIterator implements Iterator<Entry<LocalTime, Event>> {
+
+        /**
+         * The index of the next event.
+         */
+        private int next;
+
+        /**
+         * The index of the last returned event or {@code -1}.
+         */
+        private int last = -1;
+
+        /**
+         * The expected number of modifications.
+         */
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<LocalTime, Event> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new AbstractMap.SimpleImmutableEntry<>(LocalTime.ofSecondOfDay(starts[last]), events[last]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            delete(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -77,7 +77,8 @@ public class Event {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(duration, title);
+        // Same value as Objects.hash(duration, title) without the varargs array.
+        return 31 * (31 + Objects.hashCode(duration)) + title.hashCode();
     }
 
     /**
@@ -0,0 +1,283 @@
+package com.github.agoss94.track.manager;
+
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An event table stores many events column by column instead of one object per
+ * event. Every event is identified by its id, which is its index in the table.
+ * The durations are kept as minutes in an {@code int} array and the titles as
+ * ranges of one shared character arena, so adding an event allocates nothing
+ * but the occasional growth of the arrays. Open end events cannot be stored.
+ * <p>
+ * The {@link Event} objects are created only on demand by {@link #getEvent(int)}
+ * or while walking the view returned by {@link #asList()}.
+ */
+public final class EventTable {
+
+    /**
+     * The durations of the events in minutes.
+     */
+    private int[] minutes;
+
+    /**
+     * The title of the event {@code i} is the range from {@code titleEnds[i - 1]}
+     * or 0 to {@code titleEnds[i]} of the arena.
+     */
+    private int[] titleEnds;
+
+    /**
+     * The characters of all titles one after another.
+     */
+    private char[] arena;
+
+    /**
+     * The number of events.
+     */
+    private int size;
+
+    /**
+     * The number of used characters of the arena.
+     */
+    private int length;
+
+    /**
+     * Creates an empty event table.
+     */
+    public EventTable() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty event table with room for the given number of events.
+     *
+     * @param capacity the expected number of events.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public EventTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative.");
+        }
+        minutes = new int[Math.max(capacity, 1)];
+        titleEnds = new int[Math.max(capacity, 1)];
+        arena = new char[Math.max(32 * capacity, 16)];
+    }
+
+    /**
+     * Adds an event with the given title and duration.
+     *
+     * @param title   the title.
+     * @param minutes the duration in minutes.
+     * @return the id of the event.
+     * @throws NullPointerException     if the title is {@code null}.
+     * @throws IllegalArgumentException if the duration is negative.
+     */
+    public int add(CharSequence title, int minutes) {
+        return add(title, 0, title.length(), minutes);
+    }
+
+    /**
+     * Adds an event, whose title is the range from {@code start} inclusive to
+     * {@code end} exclusive of the given characters, so a title can be taken from
+     * an input line without creating a string.
+     *
+     * @param chars   the characters holding the title.
+     * @param start   the start of the title.
+     * @param end     the end of the title.
+     * @param minutes the duration in minutes.
+     * @return the id of the event.
+     * @throws NullPointerException      if chars is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is not within the
+     *                                   characters.
+     * @throws IllegalArgumentException  if the duration is negative.
+     */
+    public int add(CharSequence chars, int start, int end, int minutes) {
+        Objects.checkFromToIndex(start, end, chars.length());
+        if (minutes < 0) {
+            throw new IllegalArgumentException("The duration must not be negative.");
+        }
+        if (size == this.minutes.length) {
+            this.minutes = Arrays.copyOf(this.minutes, 2 * size);
+            titleEnds = Arrays.copyOf(titleEnds, 2 * size);
+        }
+        int required = length + end - start;
+        if (required > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(required, 2 * arena.length));
+        }
+        if (chars instanceof String) {
+            ((String) chars).getChars(start, end, arena, length);
+        } else {
+            for (int i = start; i < end; i++) {
+                arena[length + i - start] = chars.charAt(i);
+            }
+        }
+        length = required;
+        this.minutes[size] = minutes;
+        titleEnds[size] = length;
+        return size++;
+    }
+
+    /**
+     * Adds an event, whose title is the range from {@code start} inclusive to
+     * {@code end} exclusive of the given character array.
+     *
+     * @param chars   the characters holding the title.
+     * @param start   the start of the title.
+     * @param end     the end of the title.
+     * @param minutes the duration in minutes.
+     * @return the id of the event.
+     * @throws NullPointerException      if chars is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is not within the array.
+     * @throws IllegalArgumentException  if the duration is negative.
+     */
+    public int add(char[] chars, int start, int end, int minutes) {
+        Objects.checkFromToIndex(start, end, chars.length);
+        int id = add("", minutes);
+        int required = length + end - start;
+        if (required > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(required, 2 * arena.length));
+        }
+        System.arraycopy(chars, start, arena, length, end - start);
+        length = required;
+        titleEnds[id] = length;
+        return id;
+    }
+
+    /**
+     * Adds the given event.
+     *
+     * @param e the event.
+     * @return the id of the event.
+     * @throws NullPointerException     if the event is {@code null}.
+     * @throws IllegalArgumentException if the event is open end or its duration
+     *                                  is negative or no whole number of
+     *                                  minutes.
+     */
+    public int add(Event e) {
+        if (e.isOpenEnd()) {
+            throw new IllegalArgumentException("An event table cannot store open end events.");
+        }
+        Duration duration = e.getDuration();
+        if (!duration.equals(Duration.ofMinutes(duration.toMinutes()))) {
+            throw new IllegalArgumentException("The duration must be a whole number of minutes.");
+        }
+        return add(e.getTitle(), Math.toIntExact(duration.toMinutes()));
+    }
+
+    /**
+     * Appends all events of the given table in their order. The ids of the
+     * appended events are shifted by the size of this table.
+     *
+     * @param other the other table.
+     * @throws NullPointerException if the other table is {@code null}.
+     */
+    public void addAll(EventTable other) {
+        int n = other.size;
+        if (size + n > minutes.length) {
+            minutes = Arrays.copyOf(minutes, Math.max(size + n, 2 * size));
+            titleEnds = Arrays.copyOf(titleEnds, minutes.length);
+        }
+        if (length + other.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(length + other.length, 2 * arena.length));
+        }
+        System.arraycopy(other.minutes, 0, minutes, size, n);
+        System.arraycopy(other.arena, 0, arena, length, other.length);
+        for (int i = 0; i < n; i++) {
+            titleEnds[size + i] = length + other.titleEnds[i];
+        }
+        size += n;
+        length += other.length;
+    }
+
+    /**
+     * Returns the number of events.
+     *
+     * @return the number of events.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the table holds no event.
+     *
+     * @return {@code true} if the table holds no event.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the duration of the event with the given id in minutes.
+     *
+     * @param id the id of the event.
+     * @return the duration in minutes.
+     * @throws IndexOutOfBoundsException if there is no event with the id.
+     */
+    public int getMinutes(int id) {
+        return minutes[Objects.checkIndex(id, size)];
+    }
+
+    /**
+     * Returns the durations of all events in minutes indexed by their id.
+     *
+     * @return a copy of the durations.
+     */
+    public int[] minutes() {
+        return Arrays.copyOf(minutes, size);
+    }
+
+    /**
+     * Returns the title of the event with the given id.
+     *
+     * @param id the id of the event.
+     * @return the title.
+     * @throws IndexOutOfBoundsException if there is no event with the id.
+     */
+    public String getTitle(int id) {
+        Objects.checkIndex(id, size);
+        int start = id == 0 ? 0 : titleEnds[id - 1];
+        return new String(arena, start, titleEnds[id] - start);
+    }
+
+    /**
+     * Creates the event with the given id.
+     *
+     * @param id the id of the event.
+     * @return the event.
+     * @throws IndexOutOfBoundsException if there is no event with the id.
+     */
+    public Event getEvent(int id) {
+        return new Event(getTitle(id), Duration.ofMinutes(getMinutes(id)));
+    }
+
+    /**
+     * Returns a view of the table as a list of events indexed by their id. The
+     * events are created anew on every access.
+     *
+     * @return a list view of the table.
+     */
+    public List<Event> asList() {
+        return new EventList();
+    }
+
+    /**
+     * A read only list, which creates the events of the table on access.
+     */
+    private final class EventList extends AbstractList<Event> implements RandomAccess {
+
+        @Override
+        public Event get(int index) {
+            return getEvent(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
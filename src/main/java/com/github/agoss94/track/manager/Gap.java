@@ -0,0 +1,101 @@
+package com.github.agoss94.track.manager;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * A gap is a period of free time in a track. A gap, which lasts until the end of
+ * the day, ends at {@link LocalTime#MAX}, which stands for midnight at the end
+ * of the day.
+ */
+public final class Gap {
+
+    /**
+     * The start of the gap.
+     */
+    private final LocalTime start;
+
+    /**
+     * The end of the gap.
+     */
+    private final LocalTime end;
+
+    /**
+     * Creates a gap from the start to the end.
+     *
+     * @param start the start of the gap.
+     * @param end   the end of the gap.
+     * @throws NullPointerException     if the start or the end is {@code null}.
+     * @throws IllegalArgumentException if the end is not after the start.
+     */
+    public Gap(LocalTime start, LocalTime end) {
+        this.start = Objects.requireNonNull(start);
+        this.end = Objects.requireNonNull(end);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("The end of a gap must be after its start.");
+        }
+    }
+
+    /**
+     * Returns the start of the gap.
+     *
+     * @return the start of the gap.
+     */
+    public LocalTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the gap.
+     *
+     * @return the end of the gap.
+     */
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the duration of the gap. A gap ending at {@link LocalTime#MAX} lasts
+     * until midnight.
+     *
+     * @return the duration of the gap.
+     */
+    public Duration getDuration() {
+        if (end.equals(LocalTime.MAX)) {
+            return Duration.ofDays(1).minusNanos(start.toNanoOfDay());
+        }
+        return Duration.between(start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Gap other = (Gap) obj;
+        return Objects.equals(start, other.start) && Objects.equals(end, other.end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("%s-%s", start, end);
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.agoss94.track.manager;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * An occupancy bitmap holds one bit for every minute of the day, which is set
+ * if an event takes place during this minute. Events, which do not start or
+ * end on a full minute, occupy the minutes they touch, so a free range of
+ * minutes never overlaps an event. Checking a range of minutes takes a few
+ * operations on the 23 words of the bitmap.
+ */
+final class OccupancyBitmap {
+
+    /**
+     * The number of minutes of a day.
+     */
+    static final int MINUTES = 24 * 60;
+
+    /**
+     * The number of nanoseconds of a minute.
+     */
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    /**
+     * The bit {@code m} is set if the minute {@code m} of the day is occupied.
+     */
+    private final long[] words = new long[(MINUTES + 63) / 64];
+
+    /**
+     * Marks the minutes of the event starting at the given time as occupied. Open
+     * end events occupy the rest of the day. An event without duration occupies
+     * the minute of its start, like {@link #isFree(LocalTime, Duration)} checks it.
+     *
+     * @param start the start time.
+     * @param e     the event.
+     */
+    void mark(LocalTime start, Event e) {
+        int from = first(start);
+        occupy(from, Math.max(last(start, e.getDuration()), from + 1));
+    }
+
+    /**
+     * Marks all minutes as free.
+     */
+    void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Returns {@code true} if no minute touched by an event of the given duration
+     * at the given start is occupied. An event without duration touches the
+     * minute of its start.
+     *
+     * @param start    the start time.
+     * @param duration the duration or {@code null} for an open end event.
+     * @return {@code true} if the minutes are free.
+     */
+    boolean isFree(LocalTime start, Duration duration) {
+        int from = first(start);
+        return isFree(from, Math.max(last(start, duration), from + 1));
+    }
+
+    /**
+     * Returns {@code true} if all minutes from {@code from} inclusive to
+     * {@code to} exclusive are free.
+     *
+     * @param from the first minute.
+     * @param to   the minute after the last minute.
+     * @return {@code true} if the minutes are free.
+     */
+    boolean isFree(int from, int to) {
+        for (int w = from >> 6; w < words.length && w << 6 < to; w++) {
+            if ((words[w] & mask(w, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first free minute from the given one on or {@link #MINUTES} if
+     * there is none.
+     *
+     * @param from the first minute.
+     * @return the first free minute.
+     */
+    int nextFree(int from) {
+        for (int w = from >> 6; w < words.length; w++) {
+            long free = ~words[w] & mask(w, from, MINUTES);
+            if (free != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(free);
+            }
+        }
+        return MINUTES;
+    }
+
+    /**
+     * Returns the first occupied minute from the given one on or {@link #MINUTES}
+     * if there is none.
+     *
+     * @param from the first minute.
+     * @return the first occupied minute.
+     */
+    int nextOccupied(int from) {
+        for (int w = from >> 6; w < words.length; w++) {
+            long occupied = words[w] & mask(w, from, MINUTES);
+            if (occupied != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(occupied);
+            }
+        }
+        return MINUTES;
+    }
+
+    /**
+     * Marks the minutes from {@code from} inclusive to {@code to} exclusive as
+     * occupied.
+     *
+     * @param from the first minute.
+     * @param to   the minute after the last minute.
+     */
+    private void occupy(int from, int to) {
+        for (int w = from >> 6; w < words.length && w << 6 < to; w++) {
+            words[w] |= mask(w, from, to);
+        }
+    }
+
+    /**
+     * Returns the bits of the given word, which belong to the minutes from
+     * {@code from} inclusive to {@code to} exclusive.
+     *
+     * @param w    the index of the word.
+     * @param from the first minute.
+     * @param to   the minute after the last minute.
+     * @return the bits of the word.
+     */
+    private static long mask(int w, int from, int to) {
+        long mask = -1L;
+        if (from > w << 6) {
+            mask &= -1L << (from - (w << 6));
+        }
+        if (to < (w + 1) << 6) {
+            mask &= (1L << (to - (w << 6))) - 1;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns {@code true} if the event starts and ends on a full minute of the
+     * same day, so its occupied minutes are exact. An event without duration
+     * occupies more than it lasts.
+     *
+     * @param start the start time.
+     * @param e     the event.
+     * @return {@code true} if the event starts and ends on a full minute.
+     */
+    static boolean isWholeMinutes(LocalTime start, Event e) {
+        if (start.toNanoOfDay() % NANOS_PER_MINUTE != 0) {
+            return false;
+        }
+        Duration d = e.getDuration();
+        return d == null || !d.isNegative() && !d.isZero() && d.compareTo(Duration.ofDays(1)) < 0
+                && d.toNanos() % NANOS_PER_MINUTE == 0;
+    }
+
+    /**
+     * Returns the time at the start of the given minute or {@link LocalTime#MAX}
+     * for the end of the day.
+     *
+     * @param minute the minute of the day.
+     * @return the time at the start of the minute.
+     */
+    static LocalTime timeOf(int minute) {
+        return minute >= MINUTES ? LocalTime.MAX : LocalTime.of(minute / 60, minute % 60);
+    }
+
+    /**
+     * Returns the minute, in which the given time lies.
+     *
+     * @param start the time.
+     * @return the minute of the day.
+     */
+    static int first(LocalTime start) {
+        return (int) (start.toNanoOfDay() / NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the minute after the last minute touched by an event of the given
+     * duration at the given start. Events ending after midnight end with the day.
+     *
+     * @param start    the start time.
+     * @param duration the duration or {@code null} for an open end event.
+     * @return the minute after the last touched minute.
+     */
+    static int last(LocalTime start, Duration duration) {
+        if (duration == null || duration.compareTo(Duration.ofDays(1)) >= 0) {
+            return MINUTES;
+        }
+        if (duration.isNegative()) {
+            return first(start);
+        }
+        long end = start.toNanoOfDay() + duration.toNanos();
+        return (int) Math.min((end + NANOS_PER_MINUTE - 1) / NANOS_PER_MINUTE, MINUTES);
+    }
+}
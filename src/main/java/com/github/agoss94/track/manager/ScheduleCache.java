@@ -0,0 +1,346 @@
+package com.github.agoss94.track.manager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.agoss94.track.manager.io.BinaryScheduleReader;
+import com.github.agoss94.track.manager.io.BinaryScheduleWriter;
+
+/**
+ * The schedule cache keeps planned conferences in a directory, so a conference,
+ * which has been planned before, is not dispatched again. The schedules are
+ * stored as binary timetables named by the SHA-256 hash of the events and the
+ * dispatcher mode. The events are sorted before hashing, so the order of the
+ * input does not matter.
+ * <p>
+ * The cache is bounded by the combined size of its files. Whenever a schedule
+ * is added, the least recently used schedules are removed until the cache fits
+ * again. A schedule is used when it is added or found. Every use is appended to
+ * a log in the directory, as the modification times of many file systems are
+ * too coarse to order the uses. Schedules missing in the log, for example
+ * because another process has compacted it at the same time, are regarded as
+ * used when they were last written. The log is compacted whenever schedules are
+ * removed or it has grown beyond {@value #MAX_LOG_SIZE} bytes.
+ */
+public class ScheduleCache {
+
+    /**
+     * The default size of a cache in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 256L << 20;
+
+    /**
+     * The extension of the cached schedules.
+     */
+    private static final String EXTENSION = ".bin";
+
+    /**
+     * The name of the log of the uses.
+     */
+    private static final String LOG = "uses.log";
+
+    /**
+     * The size in bytes of the log, above which it is compacted.
+     */
+    private static final long MAX_LOG_SIZE = 1L << 20;
+
+    /**
+     * The events in the order, in which they are hashed.
+     */
+    private static final Comparator<Event> CANONICAL = Comparator.comparing(Event::getTitle)
+            .thenComparing(Event::getDuration, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * The directory of the cache.
+     */
+    private final Path directory;
+
+    /**
+     * The largest combined size of the cached schedules in bytes.
+     */
+    private final long maxSize;
+
+    /**
+     * Creates a schedule cache in the given directory, which is created if it
+     * does not exist.
+     *
+     * @param directory the directory of the cache.
+     * @param maxSize   the largest combined size of the cached schedules in bytes.
+     * @throws IOException              if the directory cannot be created.
+     * @throws NullPointerException     if the directory is {@code null}.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public ScheduleCache(Path directory, long maxSize) throws IOException {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The size of the cache must not be negative.");
+        }
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory));
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the key of the given events planned with the given mode. The key is
+     * the hexadecimal SHA-256 hash of the mode and the sorted events.
+     *
+     * @param events the events.
+     * @param mode   the dispatcher mode with all options, which change the
+     *               result.
+     * @return the key.
+     * @throws NullPointerException if the events or the mode are {@code null}.
+     */
+    public static String key(Collection<Event> events, String mode) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+        update(digest, mode);
+        List<Event> sorted = new ArrayList<>(events);
+        sorted.sort(CANONICAL);
+        for (Event e : sorted) {
+            update(digest, e.getTitle());
+            update(digest, e.isOpenEnd() ? "" : e.getDuration().toString());
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds the given text with its length to the digest, so that the texts are
+     * separated unambiguously.
+     *
+     * @param digest the digest.
+     * @param text   the text.
+     */
+    private static void update(MessageDigest digest, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int n = bytes.length;
+        digest.update(new byte[] { (byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n });
+        digest.update(bytes);
+    }
+
+    /**
+     * Returns the schedule cached under the given key. A cached schedule, which
+     * cannot be read, is removed and regarded as missing.
+     *
+     * @param key the key.
+     * @return the tracks of the schedule or an empty optional if there is none.
+     * @throws IOException if the cache cannot be read.
+     */
+    public Optional<List<Track>> get(String key) throws IOException {
+        Path file = fileOf(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        List<Track> tracks;
+        try {
+            tracks = BinaryScheduleReader.open(file).readAll();
+        } catch (NoSuchFileException e) {
+            // Removed by another process.
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            return Optional.empty();
+        }
+        touch(key);
+        return Optional.of(tracks);
+    }
+
+    /**
+     * Caches the given schedule under the given key and removes the least
+     * recently used schedules until the cache fits into its size.
+     *
+     * @param key    the key.
+     * @param tracks the tracks of the schedule.
+     * @throws IOException if the schedule cannot be written.
+     */
+    public void put(String key, List<Track> tracks) throws IOException {
+        Path file = fileOf(key);
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            new BinaryScheduleWriter().writeFile(temp, tracks);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        touch(key);
+        evict();
+    }
+
+    /**
+     * Removes the least recently used schedules until the cache fits into its
+     * size and compacts the log of the uses.
+     *
+     * @throws IOException if the directory cannot be read.
+     */
+    private void evict() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(f -> f.getFileName().toString().endsWith(EXTENSION)).collect(Collectors.toList());
+        }
+        Map<String, Integer> uses = readUses();
+        List<CachedFile> cached = new ArrayList<>();
+        long size = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            String key = name.substring(0, name.length() - EXTENSION.length());
+            try {
+                CachedFile c = new CachedFile(key, file, Files.size(file), uses.getOrDefault(key, -1),
+                        Files.getLastModifiedTime(file));
+                cached.add(c);
+                size += c.size;
+            } catch (NoSuchFileException e) {
+                // Removed by another process.
+            }
+        }
+        cached.sort(Comparator.comparingInt((CachedFile c) -> c.use).thenComparing(c -> c.written)
+                .thenComparing(c -> c.file));
+        int evicted = 0;
+        for (; evicted < cached.size() && size > maxSize; evicted++) {
+            try {
+                Files.deleteIfExists(cached.get(evicted).file);
+            } catch (IOException e) {
+                // The file is still in use, try the next one.
+                continue;
+            }
+            size -= cached.get(evicted).size;
+        }
+
+        // Only the last use of the remaining schedules is kept.
+        List<String> log = new ArrayList<>();
+        for (CachedFile c : cached.subList(evicted, cached.size())) {
+            if (c.use >= 0) {
+                log.add(c.key);
+            }
+        }
+        Path temp = Files.createTempFile(directory, LOG, ".tmp");
+        try {
+            Files.write(temp, log, StandardCharsets.US_ASCII);
+            Files.move(temp, directory.resolve(LOG), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the position of the last use of every key in the log.
+     *
+     * @return the positions of the last uses by key.
+     * @throws IOException if the log cannot be read.
+     */
+    private Map<String, Integer> readUses() throws IOException {
+        Map<String, Integer> uses = new HashMap<>();
+        List<String> log;
+        try {
+            log = Files.readAllLines(directory.resolve(LOG), StandardCharsets.US_ASCII);
+        } catch (NoSuchFileException e) {
+            return uses;
+        }
+        for (int i = 0; i < log.size(); i++) {
+            uses.put(log.get(i), i);
+        }
+        return uses;
+    }
+
+    /**
+     * Appends a use of the schedule with the given key to the log and compacts
+     * the log if it has grown too large.
+     *
+     * @param key the key.
+     * @throws IOException if the log cannot be written.
+     */
+    private void touch(String key) throws IOException {
+        Path log = directory.resolve(LOG);
+        Files.write(log, (key + "\n").getBytes(StandardCharsets.US_ASCII), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        if (Files.size(log) > MAX_LOG_SIZE) {
+            evict();
+        }
+    }
+
+    /**
+     * Returns the file of the schedule with the given key.
+     *
+     * @param key the key.
+     * @return the file.
+     * @throws IllegalArgumentException if the key is no hexadecimal hash.
+     */
+    private Path fileOf(String key) {
+        if (!key.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid key " + key);
+        }
+        return directory.resolve(key + EXTENSION);
+    }
+
+    /**
+     * A cached schedule.
+     */
+    private static class CachedFile {
+
+        /**
+         * The key of the schedule.
+         */
+        private final String key;
+
+        /**
+         * The file.
+         */
+        private final Path file;
+
+        /**
+         * The size of the file in bytes.
+         */
+        private final long size;
+
+        /**
+         * The position of the last use in the log or {@code -1} if it is missing.
+         */
+        private final int use;
+
+        /**
+         * The time the file has been written.
+         */
+        private final FileTime written;
+
+        /**
+         * Creates a cached schedule.
+         *
+         * @param key     the key of the schedule.
+         * @param file    the file.
+         * @param size    the size of the file in bytes.
+         * @param use     the position of the last use in the log or {@code -1}.
+         * @param written the time the file has been written.
+         */
+        CachedFile(String key, Path file, long size, int use, FileTime written) {
+            this.key = key;
+            this.file = file;
+            this.size = size;
+            this.use = use;
+            this.written = written;
+        }
+    }
+}
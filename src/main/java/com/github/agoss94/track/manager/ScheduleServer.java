@@ -0,0 +1,188 @@
+package com.github.agoss94.track.manager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.io.OutputWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The schedule server plans conferences over HTTP, so the application is
+ * started and warmed up only once. A conference is planned by posting its
+ * events to {@code /schedule} in the format of an input file. The response
+ * holds the timetable in the format of an output file.
+ * <p>
+ * The requests are planned by a fixed number of worker threads. Requests,
+ * which arrive while all workers are busy, wait in a bounded queue. If the
+ * queue is full the request is answered with {@code 503 Service Unavailable}
+ * right away. Invalid events are answered with {@code 400 Bad Request}.
+ */
+public class ScheduleServer {
+
+    /**
+     * The path, to which the events are posted.
+     */
+    public static final String PATH = "/schedule";
+
+    /**
+     * The underlying HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The workers planning the requests.
+     */
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * The factory of the dispatchers, which is called for every request.
+     */
+    private final Supplier<Dispatcher> dispatchers;
+
+    /**
+     * Creates a schedule server bound to the given address. The dispatchers are
+     * taken from the given factory for every request on the thread of the
+     * worker, so a factory may hand out one dispatcher per thread to keep them
+     * warm.
+     *
+     * @param address       the address of the server.
+     * @param dispatchers   the factory of the dispatchers.
+     * @param workers       the number of worker threads.
+     * @param queueCapacity the number of requests, which may wait for a worker.
+     * @throws IOException              if the server cannot be bound to the
+     *                                  address.
+     * @throws NullPointerException     if the address or the factory is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the number of workers or the capacity
+     *                                  of the queue is not positive.
+     */
+    public ScheduleServer(InetSocketAddress address, Supplier<Dispatcher> dispatchers, int workers,
+            int queueCapacity) throws IOException {
+        Objects.requireNonNull(address);
+        if (workers < 1) {
+            throw new IllegalArgumentException("The number of workers must be positive.");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("The capacity of the queue must be positive.");
+        }
+        this.dispatchers = Objects.requireNonNull(dispatchers);
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+        this.server = HttpServer.create(address, 0);
+        server.createContext(PATH, this::accept);
+    }
+
+    /**
+     * Starts the server.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server. Requests, which are planned right now, are finished.
+     */
+    public void stop() {
+        server.stop(0);
+        workers.shutdown();
+    }
+
+    /**
+     * Returns the address of the server, which holds the actual port if the server
+     * has been bound to port 0.
+     *
+     * @return the address of the server.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Hands the request over to the workers or rejects it if the queue is full.
+     *
+     * @param exchange the request.
+     * @throws IOException if the response cannot be sent.
+     */
+    private void accept(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "Only POST is supported." + System.lineSeparator());
+            return;
+        }
+        try {
+            workers.execute(() -> schedule(exchange));
+        } catch (RejectedExecutionException e) {
+            respond(exchange, 503, "Too many requests." + System.lineSeparator());
+        }
+    }
+
+    /**
+     * Plans the conference of the request and sends the timetable. Invalid events
+     * are answered with {@code 400}, all other failures with {@code 500}.
+     *
+     * @param exchange the request.
+     */
+    private void schedule(HttpExchange exchange) {
+        try {
+            String timetable;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+                List<Event> events = new InputReader().stream(reader).collect(Collectors.toList());
+                List<Track> tracks = dispatchers.get().dispatchAll(events);
+                StringWriter writer = new StringWriter();
+                new OutputWriter().write(writer, tracks);
+                timetable = writer.toString();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (IllegalArgumentException e) {
+                String message = e.getMessage() == null ? "Invalid events." : e.getMessage();
+                respond(exchange, 400, message + System.lineSeparator());
+                return;
+            } catch (RuntimeException e) {
+                respond(exchange, 500, "The conference could not be planned." + System.lineSeparator());
+                return;
+            } catch (Error e) {
+                respond(exchange, 500, "The conference could not be planned." + System.lineSeparator());
+                throw e;
+            }
+            respond(exchange, 200, timetable);
+        } catch (IOException e) {
+            // The client has gone away.
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sends the response and closes the exchange.
+     *
+     * @param exchange the request.
+     * @param status   the status code.
+     * @param body     the body of the response.
+     * @throws IOException if the response cannot be sent.
+     */
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
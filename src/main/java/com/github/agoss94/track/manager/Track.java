@@ -1,15 +1,30 @@
 package com.github.agoss94.track.manager;
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.TreeMap;
 
 /**
  * A track is a timetable of non-overlapping events. As such a track maps points
  * in time to events.
+ * <p>
+ * An indexed track additionally keeps an {@link OccupancyBitmap} of the minutes
+ * of the day. Adding an event to a range of free minutes then needs no lookup in
+ * the map, only if the bitmap reports an occupied minute the events are checked
+ * exactly. As long as all events start and end on full minutes the free gaps
+ * are read from the bitmap as well. Events removed from an indexed track, also
+ * through its views, are removed from the bitmap as well. The events of an
+ * indexed track cannot be replaced through its entries.
  */
 public class Track extends AbstractMap<LocalTime, Event> {
 
@@ -18,11 +33,43 @@ public class Track extends AbstractMap<LocalTime, Event> {
      */
     private final NavigableMap<LocalTime, Event> track;
 
+    /**
+     * The occupied minutes or {@code null} if the track is not indexed.
+     */
+    private final OccupancyBitmap occupied;
+
+    /**
+     * {@code true} if all events start and end on full minutes, so the gaps of
+     * the bitmap are exact.
+     */
+    private boolean wholeMinutes = true;
+
     /**
      * Creates an empty track.
      */
     public Track() {
-        track = new TreeMap<>();
+        this(false);
+    }
+
+    /**
+     * Creates an empty track, which keeps an occupancy bitmap if it is indexed.
+     *
+     * @param indexed {@code true} if the track keeps an occupancy bitmap.
+     */
+    public Track(boolean indexed) {
+        this.track = new TreeMap<>();
+        this.occupied = indexed ? new OccupancyBitmap() : null;
+    }
+
+    /**
+     * Creates a track backed by the given map. Subclasses, which store their
+     * events differently, pass an empty map and override all methods using it.
+     *
+     * @param track the map backing the track.
+     */
+    Track(NavigableMap<LocalTime, Event> track) {
+        this.track = track;
+        this.occupied = null;
     }
 
     /**
@@ -43,29 +90,225 @@ public class Track extends AbstractMap<LocalTime, Event> {
     public Event put(LocalTime start, Event e) {
         Objects.requireNonNull(start);
         Objects.requireNonNull(e);
-        if (endPrevious(start).isAfter(start)) {
-            throw new IllegalStateException(
-                    "Cannot add event to track. There is an ongoing event until " + endPrevious(start));
-        }
-        LocalTime nextIn = track.higherKey(start);
-        if (nextIn != null) {
-            if (e.isOpenEnd()) {
-                throw new IllegalStateException("Cannot add an open end event before a future event.");
-            } else if (nextIn.isBefore(start.plus(e.getDuration()))) {
+        // Free minutes cannot overlap any event.
+        if (occupied == null || !occupied.isFree(start, e.getDuration())) {
+            if (endPrevious(start).isAfter(start)) {
                 throw new IllegalStateException(
-                        String.format("Cannot add event of %smin at %s, because the next event starts at %s",
-                                e.getDuration().toMinutes(), start, nextIn));
+                        "Cannot add event to track. There is an ongoing event until " + endPrevious(start));
             }
+            LocalTime nextIn = track.higherKey(start);
+            if (nextIn != null) {
+                if (e.isOpenEnd()) {
+                    throw new IllegalStateException("Cannot add an open end event before a future event.");
+                } else if (nextIn.isBefore(start.plus(e.getDuration()))) {
+                    throw new IllegalStateException(
+                            String.format("Cannot add event of %smin at %s, because the next event starts at %s",
+                                    e.getDuration().toMinutes(), start, nextIn));
+                }
+            }
+        }
+        if (occupied != null) {
+            occupied.mark(start, e);
+            wholeMinutes &= OccupancyBitmap.isWholeMinutes(start, e);
         }
         return track.put(start, e);
     }
 
+    /**
+     * Returns {@code true} if an event of the given duration can be added at the
+     * given start time without overlapping any other event.
+     *
+     * @param start    the start time.
+     * @param duration the duration of the event.
+     * @return {@code true} if the time is free.
+     * @throws NullPointerException if the start time or the duration is
+     *                              {@code null}.
+     */
+    public boolean isFree(LocalTime start, Duration duration) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(duration);
+        if (occupied != null && occupied.isFree(start, duration)) {
+            return true;
+        }
+        if (endPrevious(start).isAfter(start)) {
+            return false;
+        }
+        LocalTime next = ceilingKey(start);
+        if (next != null && next.equals(start)) {
+            next = start.equals(LocalTime.MAX) ? null : ceilingKey(start.plusNanos(1));
+        }
+        return next == null || !next.isBefore(start.plus(duration));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Event remove(Object key) {
+        Event old = track.remove(key);
+        if (old != null && occupied != null) {
+            reindex();
+        }
+        return old;
+    }
+
+    /**
+     * Marks all events in the bitmap anew. Events may share a partially occupied
+     * minute, so a removed event cannot simply be cleared.
+     */
+    private void reindex() {
+        occupied.clear();
+        track.forEach(occupied::mark);
+        wholeMinutes = track.entrySet().stream()
+                .allMatch(entry -> OccupancyBitmap.isWholeMinutes(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        track.clear();
+        if (occupied != null) {
+            occupied.clear();
+            wholeMinutes = true;
+        }
+    }
+
+    /**
+     * Returns all gaps of the track in chronological order. A gap is a period of
+     * time, in which no event takes place. Events without duration do not split a
+     * gap.
+     *
+     * @return the gaps of the track.
+     */
+    public List<Gap> gaps() {
+        List<Gap> gaps = new ArrayList<>();
+        findGap(LocalTime.MIN, gap -> {
+            gaps.add(gap);
+            return false;
+        });
+        return gaps;
+    }
+
+    /**
+     * Returns the longest gap of the track. Of several gaps of the same duration
+     * the first one is returned.
+     *
+     * @return the longest gap or an empty optional if the whole day is occupied.
+     */
+    public Optional<Gap> largestGap() {
+        Gap[] largest = new Gap[1];
+        findGap(LocalTime.MIN, gap -> {
+            if (largest[0] == null || gap.getDuration().compareTo(largest[0].getDuration()) > 0) {
+                largest[0] = gap;
+            }
+            return false;
+        });
+        return Optional.ofNullable(largest[0]);
+    }
+
+    /**
+     * Returns the first gap from the given time on, into which an event of the
+     * given duration fits. The returned gap starts at the given time if the time
+     * lies within the gap.
+     *
+     * @param after    the earliest start.
+     * @param duration the duration of the event.
+     * @return the first fitting gap or an empty optional if there is none.
+     * @throws NullPointerException if the time or the duration is {@code null}.
+     */
+    public Optional<Gap> firstGap(LocalTime after, Duration duration) {
+        Objects.requireNonNull(after);
+        Objects.requireNonNull(duration);
+        return findGap(after, gap -> clip(gap, after).getDuration().compareTo(duration) >= 0)
+                .map(gap -> clip(gap, after));
+    }
+
+    /**
+     * Returns the given gap starting no earlier than the given time.
+     *
+     * @param gap   the gap, which ends after the given time.
+     * @param after the given time.
+     * @return the clipped gap.
+     */
+    private static Gap clip(Gap gap, LocalTime after) {
+        return gap.getStart().isBefore(after) ? new Gap(after, gap.getEnd()) : gap;
+    }
+
+    /**
+     * Visits the gaps of the track, which end after the given time, in
+     * chronological order and returns the first one accepted by the predicate.
+     * The gaps are read from the bitmap if it is exact and found by walking along
+     * the events otherwise. No gap after the accepted one is looked at.
+     *
+     * @param after  the given time.
+     * @param accept the predicate.
+     * @return the first accepted gap or an empty optional if there is none.
+     */
+    private Optional<Gap> findGap(LocalTime after, Predicate<Gap> accept) {
+        if (occupied != null && wholeMinutes) {
+            int free = occupied.nextFree(OccupancyBitmap.first(after));
+            while (free < OccupancyBitmap.MINUTES) {
+                int next = occupied.nextOccupied(free);
+                Gap gap = new Gap(OccupancyBitmap.timeOf(free), OccupancyBitmap.timeOf(next));
+                if (gap.getEnd().isAfter(after) && accept.test(gap)) {
+                    return Optional.of(gap);
+                }
+                free = next < OccupancyBitmap.MINUTES ? occupied.nextFree(next) : next;
+            }
+            return Optional.empty();
+        }
+        LocalTime free = LocalTime.MIN;
+        for (Entry<LocalTime, Event> entry : entrySet()) {
+            LocalTime start = entry.getKey();
+            LocalTime end = endOf(start, entry.getValue());
+            if (!end.isAfter(start)) {
+                continue;
+            }
+            if (start.isAfter(free)) {
+                Gap gap = new Gap(free, start);
+                if (gap.getEnd().isAfter(after) && accept.test(gap)) {
+                    return Optional.of(gap);
+                }
+            }
+            free = end.isAfter(free) ? end : free;
+        }
+        if (free.isBefore(LocalTime.MAX)) {
+            Gap gap = new Gap(free, LocalTime.MAX);
+            if (gap.getEnd().isAfter(after) && accept.test(gap)) {
+                return Optional.of(gap);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the end of the given event for the gaps. Open end events and events
+     * ending after midnight end with the day, events with a negative duration end
+     * at their start.
+     *
+     * @param start the start time.
+     * @param e     the event.
+     * @return the end of the event.
+     */
+    private static LocalTime endOf(LocalTime start, Event e) {
+        if (e.isOpenEnd() || e.getDuration().compareTo(Duration.ofDays(1)) >= 0) {
+            return LocalTime.MAX;
+        }
+        if (e.getDuration().isNegative()) {
+            return start;
+        }
+        long end = start.toNanoOfDay() + e.getDuration().toNanos();
+        return end >= LocalTime.MAX.toNanoOfDay() ? LocalTime.MAX : LocalTime.ofNanoOfDay(end);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Set<Entry<LocalTime, Event>> entrySet() {
-        return track.entrySet();
+        return occupied == null ? track.entrySet() : new IndexedEntrySet();
     }
 
     /**
@@ -119,10 +362,58 @@ public class Track extends AbstractMap<LocalTime, Event> {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (Entry<LocalTime, Event> entry : track.entrySet()) {
+        for (Entry<LocalTime, Event> entry : entrySet()) {
             sb.append(String.format("%s %s %n", entry.getKey(), entry.getValue()));
         }
         return sb.toString();
     }
 
+    /**
+     * The entries of an indexed track. Removing an entry updates the bitmap, the
+     * entries themselves are immutable.
+     */
+    private class IndexedEntrySet extends AbstractSet<Entry<LocalTime, Event>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Entry<LocalTime, Event>> iterator() {
+            Iterator<Entry<LocalTime, Event>> entries = track.entrySet().iterator();
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry<LocalTime, Event> next() {
+                    return new SimpleImmutableEntry<>(entries.next());
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                    reindex();
+                }
+            };
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return track.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            Track.this.clear();
+        }
+    }
 }
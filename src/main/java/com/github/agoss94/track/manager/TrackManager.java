@@ -1,16 +1,31 @@
 package com.github.agoss94.track.manager;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import com.github.agoss94.track.manager.dispatcher.AnytimeConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.BinPackingConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.BoundedKnapsackDispatcher;
+import com.github.agoss94.track.manager.dispatcher.BranchAndBoundDispatcher;
+import com.github.agoss94.track.manager.dispatcher.CachingDispatcher;
+import com.github.agoss94.track.manager.dispatcher.Deadline;
 import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.ExactConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.JointConferenceDispatcher;
 import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
 import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
-import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.dispatcher.OptimalDispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
+import com.github.agoss94.track.manager.io.BinaryScheduleWriter;
+import com.github.agoss94.track.manager.io.MappedInputReader;
 import com.github.agoss94.track.manager.io.OutputWriter;
 
 /**
@@ -18,37 +33,226 @@ import com.github.agoss94.track.manager.io.OutputWriter;
  */
 public class TrackManager {
 
+    /**
+     * Pattern matching a time budget like 500ms, 2s or 1m.
+     */
+    private static final Pattern PATTERN_BUDGET = Pattern.compile("(\\d+)(ms|s|m)");
+
     /**
      * Main method for starting application.
      *
-     * @param args the first index contains the location of the input file, second
-     *             index can contain -optimal option.
+     * @param args the first index contains the location of the input file, the
+     *             -batch option followed by a directory or a glob of input files
+     *             or the -server option followed by a port, the following indices can contain one of the -optimal,
+     *             -subsetsum, -bounded, -branchandbound, -joint, -binpacking or
+     *             -exact options, which report the number of tracks together
+     *             with a lower bound, the -budget option followed by
+     *             a time budget like 500ms or 2s for the -optimal, -branchandbound
+     *             and -exact options, the -workers option followed by the number
+     *             of files or requests planned at the same time in batch or server
+     *             mode or of threads parsing a single input file, the -queue option followed by the number of requests
+     *             waiting for a worker in server mode, the -binary option to
+     *             write a binary timetable next to the text timetable and the
+     *             -cache option followed by a directory, in which planned
+     *             conferences are kept for later runs. In batch mode the
+     *             program exits with status 1 if any file could not be planned.
      * @throws IOException if no file is found.
      */
     public static void main(String[] args) throws IOException {
-        boolean isOptimalMode = false;
-        if (args.length == 2) {
-            isOptimalMode = "-optimal".equals(args[1]);
+        boolean batch = "-batch".equals(args[0]);
+        boolean server = "-server".equals(args[0]);
+        String target = batch || server ? args[1] : args[0];
+        String mode = "";
+        int workers = Runtime.getRuntime().availableProcessors();
+        int queue = 64;
+        Duration budget = null;
+        boolean binary = false;
+        String cache = null;
+        for (int i = batch || server ? 2 : 1; i < args.length; i++) {
+            if ("-budget".equals(args[i]) && i + 1 < args.length) {
+                budget = parseBudget(args[++i]);
+            } else if ("-workers".equals(args[i]) && i + 1 < args.length) {
+                workers = Integer.parseInt(args[++i]);
+            } else if ("-queue".equals(args[i]) && i + 1 < args.length) {
+                queue = Integer.parseInt(args[++i]);
+            } else if ("-cache".equals(args[i]) && i + 1 < args.length) {
+                cache = args[++i];
+            } else if ("-binary".equals(args[i])) {
+                binary = true;
+            } else {
+                mode = args[i];
+            }
+        }
+        Supplier<Dispatcher> dispatchers = dispatchers(mode, budget);
+
+        if (batch) {
+            int failed = new BatchScheduler(dispatchers, workers, System.out).run(BatchScheduler.resolve(target));
+            // Let scripts notice files, which could not be planned.
+            if (failed > 0) {
+                System.exit(1);
+            }
+            return;
+        }
+        if (server) {
+            // Without a budget every worker keeps its dispatcher and remembers the
+            // conferences planned before, otherwise the deadline has to start anew
+            // with every request.
+            Supplier<Dispatcher> warm = budget == null
+                    ? ThreadLocal.withInitial(() -> (Dispatcher) new CachingDispatcher(dispatchers.get()))::get
+                    : dispatchers;
+            ScheduleServer scheduleServer = new ScheduleServer(new InetSocketAddress(Integer.parseInt(target)), warm,
+                    workers, queue);
+            scheduleServer.start();
+            System.out.printf("Listening on port %d%n", scheduleServer.getAddress().getPort());
+            return;
         }
 
-        // Read input
-        Path pathToFile = Paths.get(args[0]);
-        InputReader reader = new InputReader();
-        Collection<Event> events = reader.readFile(pathToFile);
+        // Read input. The events are read into a table, so dispatchers working on
+        // the durations only create the events while the tracks are built.
+        Path pathToFile = Paths.get(target);
+        EventTable table = new MappedInputReader(MappedInputReader.DEFAULT_REGION_SIZE, workers).readTable(pathToFile);
+        Collection<Event> events = table.asList();
 
-        // Dispatch Events
-        List<Track> tracks = new ArrayList<>();
-        Dispatcher dispatcher = isOptimalMode ? new OptimalConferenceDispatcher() : new LazyConferenceDispatcher();
-        while (!events.isEmpty()) {
-            Track track = dispatcher.dispatch(events);
-            events.removeAll(track.values());
-            tracks.add(track);
+        // Look up the cache
+        ScheduleCache scheduleCache = cache == null ? null
+                : new ScheduleCache(Paths.get(cache), ScheduleCache.DEFAULT_MAX_SIZE);
+        String key = scheduleCache == null ? null
+                : ScheduleCache.key(events, budget == null ? mode : mode + " -budget " + budget);
+        List<Track> tracks = scheduleCache == null ? null : scheduleCache.get(key).orElse(null);
+        boolean cached = tracks != null;
+
+        // Dispatch Events. The dispatcher is only created now, so the time budget
+        // is not spent on reading the input.
+        Dispatcher dispatcher = dispatchers.get();
+        if (tracks == null) {
+            tracks = dispatcher.dispatchTable(table);
+            if (scheduleCache != null) {
+                scheduleCache.put(key, tracks);
+            }
+        }
+
+        // The packing dispatchers report how close they come to the lower bound.
+        if ("-binpacking".equals(mode) || "-exact".equals(mode)) {
+            String proof = "";
+            if (dispatcher instanceof ExactConferenceDispatcher && !cached) {
+                proof = ((ExactConferenceDispatcher) dispatcher).isProvenOptimal() ? ", proven optimal"
+                        : ", not proven optimal";
+            }
+            System.out.printf("%s: %d tracks, lower bound %d tracks%s%n", pathToFile, tracks.size(),
+                    new BinPackingConferenceDispatcher().lowerBound(events), proof);
         }
 
         // Write output
+        OutputWriter writer = new OutputWriter();
+        writer.writeFile(timetableOf(pathToFile), tracks);
+        if (binary) {
+            new BinaryScheduleWriter().writeFile(binaryTimetableOf(pathToFile), tracks);
+        }
+    }
+
+    /**
+     * Returns the path of the timetable for the given input file, which has the
+     * same name with {@code timetable} at the end and is in the same folder.
+     *
+     * @param pathToFile the path of the input file.
+     * @return the path of the timetable.
+     */
+    static Path timetableOf(Path pathToFile) {
         String fileName = pathToFile.getFileName().toString();
         String outputFilename = fileName.replace(".txt", "-timetable.txt");
-        OutputWriter writer = new OutputWriter();
-        writer.writeFile(pathToFile.resolveSibling(outputFilename), tracks);
+        return pathToFile.resolveSibling(outputFilename);
+    }
+
+    /**
+     * Returns the path of the binary timetable for the given input file, which
+     * has the same name with {@code timetable.bin} at the end and is in the same
+     * folder.
+     *
+     * @param pathToFile the path of the input file.
+     * @return the path of the binary timetable.
+     */
+    static Path binaryTimetableOf(Path pathToFile) {
+        String fileName = pathToFile.getFileName().toString();
+        String outputFilename = fileName.replace(".txt", "-timetable.bin");
+        return pathToFile.resolveSibling(outputFilename);
+    }
+
+    /**
+     * Returns a factory of dispatchers for the given mode. The time budget starts
+     * anew for every created dispatcher.
+     *
+     * @param mode   the mode option as given on the command line.
+     * @param budget the time budget or {@code null} if there is none.
+     * @return the factory of dispatchers.
+     */
+    private static Supplier<Dispatcher> dispatchers(String mode, Duration budget) {
+        return () -> createDispatcher(mode, budget == null ? Deadline.none() : Deadline.after(budget));
+    }
+
+    /**
+     * Creates the dispatcher for the given mode. Unknown modes fall back to the
+     * lazy dispatcher. Dispatchers with an exponential running time observe the
+     * deadline and fall back to the lazy dispatcher if they are not better.
+     *
+     * @param mode     the mode option as given on the command line.
+     * @param deadline the deadline of the exact dispatchers.
+     * @return the dispatcher for the given mode.
+     */
+    private static Dispatcher createDispatcher(String mode, Deadline deadline) {
+        switch (mode) {
+        case "-optimal":
+            return withFallback(new OptimalConferenceDispatcher(
+                    (start, limit) -> new OptimalDispatcher(start, limit, 1, deadline)), deadline);
+        case "-subsetsum":
+            return new OptimalConferenceDispatcher(SubsetSumDispatcher::new);
+        case "-bounded":
+            return new OptimalConferenceDispatcher(BoundedKnapsackDispatcher::new);
+        case "-branchandbound":
+            return withFallback(new OptimalConferenceDispatcher(
+                    (start, limit) -> new BranchAndBoundDispatcher(start, limit, deadline)), deadline);
+        case "-joint":
+            return new JointConferenceDispatcher();
+        case "-binpacking":
+            return new BinPackingConferenceDispatcher();
+        case "-exact":
+            return new ExactConferenceDispatcher(ExactConferenceDispatcher.DEFAULT_NODE_LIMIT, deadline);
+        default:
+            return new LazyConferenceDispatcher();
+        }
+    }
+
+    /**
+     * Returns an {@link AnytimeConferenceDispatcher} for the given dispatcher if
+     * the deadline can expire and the dispatcher itself otherwise.
+     *
+     * @param dispatcher the given dispatcher.
+     * @param deadline   the deadline of the dispatcher.
+     * @return the dispatcher with the lazy dispatcher as fallback.
+     */
+    private static Dispatcher withFallback(Dispatcher dispatcher, Deadline deadline) {
+        return deadline == Deadline.none() ? dispatcher : new AnytimeConferenceDispatcher(dispatcher, deadline);
+    }
+
+    /**
+     * Parses a time budget like 500ms, 2s or 1m.
+     *
+     * @param budget the budget as given on the command line.
+     * @return the time budget.
+     * @throws IllegalArgumentException if the budget cannot be parsed.
+     */
+    private static Duration parseBudget(String budget) {
+        Matcher matcher = PATTERN_BUDGET.matcher(budget);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid time budget " + budget);
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2)) {
+        case "ms":
+            return Duration.ofMillis(amount);
+        case "s":
+            return Duration.ofSeconds(amount);
+        default:
+            return Duration.ofMinutes(amount);
+        }
     }
 }
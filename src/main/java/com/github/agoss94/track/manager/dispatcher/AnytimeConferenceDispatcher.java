@@ -0,0 +1,79 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The anytime conference dispatcher bounds the latency of an exact conference
+ * dispatcher, whose session dispatchers observe the same {@link Deadline}. Once
+ * the deadline has expired the exact dispatcher returns the best track found so
+ * far. The track is compared with the track of a
+ * {@link LazyConferenceDispatcher} and the one with the longer combined
+ * duration of events is returned. After the deadline has expired only the lazy
+ * dispatcher is used.
+ */
+public class AnytimeConferenceDispatcher implements Dispatcher {
+
+    /**
+     * The exact dispatcher.
+     */
+    private final Dispatcher dispatcher;
+
+    /**
+     * The dispatcher, which is used if the exact dispatcher is not better.
+     */
+    private final Dispatcher fallback = new LazyConferenceDispatcher();
+
+    /**
+     * The deadline of the exact dispatcher.
+     */
+    private final Deadline deadline;
+
+    /**
+     * Creates an anytime conference dispatcher.
+     *
+     * @param dispatcher the exact dispatcher.
+     * @param deadline   the deadline of the exact dispatcher.
+     * @throws NullPointerException if the dispatcher or the deadline is
+     *                              {@code null}.
+     */
+    public AnytimeConferenceDispatcher(Dispatcher dispatcher, Deadline deadline) {
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.deadline = Objects.requireNonNull(deadline);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public Track dispatch(Collection<Event> c) {
+        Track lazy = fallback.dispatch(c);
+        if (deadline.isExpired()) {
+            return lazy;
+        }
+        Track exact = dispatcher.dispatch(c);
+        return scheduled(exact).compareTo(scheduled(lazy)) >= 0 ? exact : lazy;
+    }
+
+    /**
+     * Returns the combined duration of all events of the track, which are not
+     * open end.
+     *
+     * @param track the given track.
+     * @return the combined duration of all events.
+     */
+    private Duration scheduled(Track track) {
+        return track.values().stream()
+                .filter(e -> !e.isOpenEnd())
+                .map(Event::getDuration)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+}
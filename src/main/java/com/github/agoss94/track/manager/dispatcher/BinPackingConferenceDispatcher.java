@@ -0,0 +1,249 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.EventTable;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The bin packing conference dispatcher plans the whole conference at once.
+ * Every track consists of a morning session of 3 hours and an afternoon session
+ * of 4 hours, which are regarded as bins. The events are packed into the
+ * sessions with the best fit decreasing heuristic:
+ * <p>
+ * <ol>
+ * <li>The events are sorted by decreasing duration.</li>
+ * <li>Every event is put into the open session with the least remaining time,
+ * which still fits the event.</li>
+ * <li>If no open session fits the event, a new track is opened.</li>
+ * </ol>
+ * The open sessions are kept in a tree ordered by their remaining time, so each
+ * event is placed in O(log n) and the whole conference is planned in O(n log
+ * n). The result is not necessarily optimal, but a lower bound on the number of
+ * tracks is provided by {@link #lowerBound(Collection)}.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Bin_packing_problem">Bin packing
+ *      problem</a>.
+ */
+public class BinPackingConferenceDispatcher implements Dispatcher {
+
+    /**
+     * The duration of the morning session in minutes.
+     */
+    static final int MORNING = 180;
+
+    /**
+     * The duration of the afternoon session in minutes.
+     */
+    static final int AFTERNOON = 240;
+
+    /**
+     * Dispatches the collection of events and returns the first track of the
+     * packing. Use {@link #dispatchAll(Collection)} to plan the whole conference.
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public Track dispatch(Collection<Event> c) {
+        List<Track> tracks = dispatchAll(c);
+        return tracks.isEmpty() ? ConferenceTracks.create(List.of(), List.of()) : tracks.get(0);
+    }
+
+    /**
+     * Dispatches all events of the collection to as few tracks as the best fit
+     * decreasing heuristic finds.
+     *
+     * @param c a collection of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public List<Track> dispatchAll(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        List<Event> events = new ArrayList<>(c);
+        int[] durations = events.stream().mapToInt(e -> (int) e.getDuration().toMinutes()).toArray();
+        return createTracks(events, pack(durations));
+    }
+
+    /**
+     * Dispatches all events of the table like {@link #dispatchAll(Collection)}.
+     * The packing works on the durations of the table only, the events are
+     * created while the tracks are built.
+     *
+     * @param table a table of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException     if the given table is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours.
+     */
+    @Override
+    public List<Track> dispatchTable(EventTable table) {
+        return createTracks(table.asList(), pack(minutesOf(table)));
+    }
+
+    /**
+     * Returns a lower bound on the number of tracks any dispatcher needs for the
+     * collection of events. The bound is the larger one of
+     * <p>
+     * <ul>
+     * <li>the combined duration of all events divided by 7 hours and</li>
+     * <li>the number of events, which do not fit into a single session together
+     * with another event of more than 2 hours. Events longer than 3 hours need an
+     * afternoon session of their own, all other events of more than 2 hours
+     * fill a morning or an afternoon session.</li>
+     * </ul>
+     *
+     * @param c a collection of events.
+     * @return a lower bound on the number of tracks.
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    public int lowerBound(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        return lowerBound(c.stream().mapToInt(e -> (int) e.getDuration().toMinutes()).toArray());
+    }
+
+    /**
+     * Returns a lower bound on the number of tracks for the given durations in
+     * minutes.
+     *
+     * @param durations the durations in minutes.
+     * @return a lower bound on the number of tracks.
+     */
+    static int lowerBound(int[] durations) {
+        long total = 0;
+        int large = 0;
+        int medium = 0;
+        for (int d : durations) {
+            total += d;
+            if (d > MORNING) {
+                large++;
+            } else if (d > AFTERNOON / 2) {
+                medium++;
+            }
+        }
+        int byDuration = (int) ((total + MORNING + AFTERNOON - 1) / (MORNING + AFTERNOON));
+        // A track with a large event can take one medium event in the morning, all
+        // other tracks can take two.
+        int bySize = large + (Math.max(0, medium - large) + 1) / 2;
+        return Math.max(byDuration, bySize);
+    }
+
+    /**
+     * Packs the given durations with the best fit decreasing heuristic. The
+     * returned array holds the session of every duration. The session {@code s}
+     * belongs to the track {@code s / 2} and is the morning session if {@code s}
+     * is even.
+     *
+     * @param durations the durations in minutes.
+     * @return the session of every duration.
+     */
+    static int[] pack(int[] durations) {
+        int[] session = new int[durations.length];
+        List<Integer> order = IntStream.range(0, durations.length)
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> durations[i]).reversed())
+                .collect(Collectors.toList());
+
+        // Open sessions by their remaining time.
+        TreeMap<Integer, Deque<Integer>> open = new TreeMap<>();
+        int[] remaining = new int[2 * durations.length];
+        int sessions = 0;
+        for (int i : order) {
+            Map.Entry<Integer, Deque<Integer>> fit = open.ceilingEntry(durations[i]);
+            if (fit == null) {
+                remaining[sessions] = MORNING;
+                remaining[sessions + 1] = AFTERNOON;
+                open.computeIfAbsent(MORNING, k -> new ArrayDeque<>()).add(sessions);
+                open.computeIfAbsent(AFTERNOON, k -> new ArrayDeque<>()).add(sessions + 1);
+                sessions += 2;
+                fit = open.ceilingEntry(durations[i]);
+            }
+            int s = fit.getValue().poll();
+            if (fit.getValue().isEmpty()) {
+                open.remove(fit.getKey());
+            }
+            session[i] = s;
+            remaining[s] -= durations[i];
+            open.computeIfAbsent(remaining[s], k -> new ArrayDeque<>()).add(s);
+        }
+        return session;
+    }
+
+    /**
+     * Creates the tracks for the given sessions of the events. The events of a
+     * session keep their order in the list. Tracks without any event are left
+     * out.
+     *
+     * @param events  the events.
+     * @param session the session of every event.
+     * @return the tracks.
+     */
+    static List<Track> createTracks(List<Event> events, int[] session) {
+        int tracks = IntStream.of(session).map(s -> s / 2 + 1).max().orElse(0);
+        List<List<Event>> sessions = new ArrayList<>();
+        for (int s = 0; s < 2 * tracks; s++) {
+            sessions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < events.size(); i++) {
+            sessions.get(session[i]).add(events.get(i));
+        }
+        List<Track> result = new ArrayList<>();
+        for (int t = 0; t < tracks; t++) {
+            List<Event> morning = sessions.get(2 * t);
+            List<Event> afternoon = sessions.get(2 * t + 1);
+            if (!morning.isEmpty() || !afternoon.isEmpty()) {
+                result.add(ConferenceTracks.create(morning, afternoon));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the durations of the events of the table in minutes.
+     *
+     * @param table the table of events.
+     * @return the durations in minutes.
+     * @throws NullPointerException     if the given table is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours.
+     */
+    static int[] minutesOf(EventTable table) {
+        int[] minutes = table.minutes();
+        if (IntStream.of(minutes).anyMatch(m -> m > AFTERNOON)) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        return minutes;
+    }
+
+    /**
+     * Returns {@code true} if the end is open end or longer than 4 hours.
+     *
+     * @param e the given event.
+     * @return {@code true} if the end is open end or longer than 4 hours.
+     */
+    private boolean isEventToLong(Event e) {
+        return e.isOpenEnd() || e.getDuration().compareTo(Duration.ofHours(4)) > 0;
+    }
+}
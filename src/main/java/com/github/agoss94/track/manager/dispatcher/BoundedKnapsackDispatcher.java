@@ -0,0 +1,153 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The bounded knapsack dispatcher solves the same problem as the
+ * {@link SubsetSumDispatcher}, but regards events of the same duration as
+ * interchangeable. The events are compressed into duration classes, each of
+ * which consists of a duration and the number of events of this duration.
+ * <p>
+ * For every minute {@code m} between zero and the limit we remember the first
+ * class, which reached {@code m}, and how many events of this class have been
+ * used to reach it. The classes are processed one after another and the minutes
+ * in increasing order, so a minute can be reached from a smaller minute of the
+ * same class as long as events of the class are left. The largest reachable
+ * minute is the optimal fill and the selection is reconstructed by following
+ * the reaching classes backwards.
+ * <p>
+ * The time and space complexity of the algorithm is O(k * limit) and O(limit),
+ * where k is the number of distinct durations and the limit is measured in
+ * minutes. Typical conferences consist of a handful of distinct durations, so
+ * the running time does not grow with the number of events. All durations are
+ * assumed to be whole minutes.
+ *
+ * @see <a href=
+ *      "https://en.wikipedia.org/wiki/Knapsack_problem#Definition">Bounded
+ *      knapsack problem</a>.
+ */
+public class BoundedKnapsackDispatcher implements Dispatcher {
+
+    /**
+     * Marks a minute, which cannot be reached by any selection of events.
+     */
+    private static final int UNREACHABLE = -1;
+
+    /**
+     * The starting points for all events.
+     */
+    private final LocalTime start;
+
+    /**
+     * The time limitation for dispatching the events.
+     */
+    private final Duration limit;
+
+    /**
+     * Creates a bounded knapsack dispatcher, which dispatches events at the given
+     * start time with a maximal duration. The dispatcher finds an optimal
+     * selection of events whose combined duration is less than or equal to the
+     * given limit. Events that do not fit in are discarded.
+     *
+     * @param start the start time of the track.
+     * @param limit the time limit of the track.
+     * @throws NullPointerException if start or limit is {@code null}.
+     */
+    public BoundedKnapsackDispatcher(LocalTime start, Duration limit) {
+        this.start = Objects.requireNonNull(start);
+        this.limit = Objects.requireNonNull(limit);
+    }
+
+    /**
+     * The dispatcher looks for an optimal solution. If multiple optimal solutions
+     * exist the chosen events are always the same for the same input order. Of
+     * every duration the first events in input order are chosen.
+     *
+     * @param collection a collection of events.
+     * @return a track with an optimal solution under the given time constrain.
+     * @throws NullPointerException     if events is {@code null}.
+     * @throws IllegalArgumentException if one of the events is open end or if no
+     *                                  event fits into the time limit.
+     */
+    @Override
+    public Track dispatch(Collection<Event> collection) {
+        Objects.requireNonNull(collection);
+
+        List<Event> events = new ArrayList<>(collection);
+        if (events.stream().anyMatch(Event::isOpenEnd)) {
+            throw new IllegalArgumentException("All Events must be of fixed duration.");
+        }
+        // The limit is to small for the collection of events.
+        if (events.stream().noneMatch(e -> limit.compareTo(e.getDuration()) >= 1)) {
+            throw new IllegalArgumentException("No solution possible.");
+        }
+
+        // Compress the events into duration classes. Events longer than the limit
+        // can never be taken.
+        int capacity = (int) limit.toMinutes();
+        Map<Integer, List<Integer>> classes = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            long minutes = events.get(i).getDuration().toMinutes();
+            if (minutes <= capacity) {
+                classes.computeIfAbsent((int) minutes, d -> new ArrayList<>()).add(i);
+            }
+        }
+        int[] durations = classes.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int[] counts = classes.values().stream().mapToInt(List::size).toArray();
+
+        // reachedBy[m] holds the first class, which reached the minute m, and
+        // used[m] the number of events of this class.
+        int[] reachedBy = new int[capacity + 1];
+        int[] used = new int[capacity + 1];
+        Arrays.fill(reachedBy, UNREACHABLE);
+        reachedBy[0] = durations.length;
+        int best = 0;
+        for (int k = 0; k < durations.length && best < capacity; k++) {
+            int d = durations[k];
+            for (int m = d; m <= capacity; m++) {
+                if (reachedBy[m] != UNREACHABLE || reachedBy[m - d] == UNREACHABLE) {
+                    continue;
+                }
+                int count = reachedBy[m - d] == k ? used[m - d] + 1 : 1;
+                if (count <= counts[k]) {
+                    reachedBy[m] = k;
+                    used[m] = count;
+                    best = Math.max(best, m);
+                }
+            }
+        }
+
+        // Take the first events of every class on the way back.
+        int[] taken = new int[durations.length];
+        for (int m = best; m > 0; m -= durations[reachedBy[m]]) {
+            taken[reachedBy[m]]++;
+        }
+        boolean[] chosen = new boolean[events.size()];
+        List<List<Integer>> indices = new ArrayList<>(classes.values());
+        for (int k = 0; k < durations.length; k++) {
+            for (int i : indices.get(k).subList(0, taken[k])) {
+                chosen[i] = true;
+            }
+        }
+
+        Track track = new Track();
+        for (int i = 0; i < events.size(); i++) {
+            if (chosen[i]) {
+                LocalTime time = track.isEmpty() ? start : track.end();
+                track.put(time, events.get(i));
+            }
+        }
+        return track;
+    }
+}
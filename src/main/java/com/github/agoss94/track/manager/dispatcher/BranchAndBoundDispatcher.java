@@ -0,0 +1,246 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The branch and bound dispatcher finds an optimal solution for a collection of
+ * events with a given time constraint by a depth first search. The events are
+ * sorted by decreasing duration and for every event the search first tries to
+ * take it and then to leave it out. A branch is cut off if
+ * <p>
+ * <ol>
+ * <li>all remaining events together cannot improve the best solution found so
+ * far,</li>
+ * <li>all remaining events fit into the limit, in which case taking all of them
+ * is the best solution of the branch, or</li>
+ * <li>an event of the same duration has just been left out, as taking it would
+ * lead to a solution which has already been regarded.</li>
+ * </ol>
+ * The search stops immediately as soon as a solution fills the limit exactly or
+ * the {@link Deadline} of the dispatcher has expired. The combined duration of
+ * a branch is carried along, so no selection is ever summed up again.
+ * <p>
+ * The time complexity of the algorithm is O(2^n) in the worst case, but typical
+ * conference inputs consist of a few distinct durations and contain a perfect
+ * fill, which is found after a few steps. All durations are measured in
+ * seconds.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Branch_and_bound">Branch and
+ *      bound</a>.
+ */
+public class BranchAndBoundDispatcher implements Dispatcher {
+
+    /**
+     * The starting points for all events.
+     */
+    private final LocalTime start;
+
+    /**
+     * The time limitation for dispatching the events.
+     */
+    private final Duration limit;
+
+    /**
+     * The deadline, after which the best solution so far is returned.
+     */
+    private final Deadline deadline;
+
+    /**
+     * The number of visited nodes.
+     */
+    private long nodes;
+
+    /**
+     * The durations of the events in seconds sorted in decreasing order.
+     */
+    private long[] seconds;
+
+    /**
+     * {@code suffix[i]} holds the combined duration of all events from index
+     * {@code i} on.
+     */
+    private long[] suffix;
+
+    /**
+     * The limit in seconds.
+     */
+    private long max;
+
+    /**
+     * The indices of the taken events in the current branch.
+     */
+    private int[] taken;
+
+    /**
+     * The indices of the taken events in the best solution.
+     */
+    private int[] bestTaken;
+
+    /**
+     * The number of events in the best solution.
+     */
+    private int bestSize;
+
+    /**
+     * The combined duration of the best solution.
+     */
+    private long best;
+
+    /**
+     * Creates a branch and bound dispatcher, which dispatches events at the given
+     * start time with a maximal duration. The dispatcher finds an optimal
+     * selection of events whose combined duration is less than or equal to the
+     * given limit. Events that do not fit in are discarded.
+     *
+     * @param start the start time of the track.
+     * @param limit the time limit of the track.
+     * @throws NullPointerException if start or limit is {@code null}.
+     */
+    public BranchAndBoundDispatcher(LocalTime start, Duration limit) {
+        this(start, limit, Deadline.none());
+    }
+
+    /**
+     * Creates a branch and bound dispatcher, which dispatches events at the given
+     * start time with a maximal duration and returns the best solution so far
+     * once the deadline has expired.
+     *
+     * @param start    the start time of the track.
+     * @param limit    the time limit of the track.
+     * @param deadline the deadline of the search.
+     * @throws NullPointerException if start, limit or deadline is {@code null}.
+     */
+    public BranchAndBoundDispatcher(LocalTime start, Duration limit, Deadline deadline) {
+        this.start = Objects.requireNonNull(start);
+        this.limit = Objects.requireNonNull(limit);
+        this.deadline = Objects.requireNonNull(deadline);
+    }
+
+    /**
+     * The dispatcher looks for an optimal solution. If multiple optimal solutions
+     * exist the chosen events are always the same for the same input order.
+     *
+     * @param collection a collection of events.
+     * @return a track with an optimal solution under the given time constrain.
+     * @throws NullPointerException     if events is {@code null}.
+     * @throws IllegalArgumentException if one of the events is open end or if no
+     *                                  event fits into the time limit.
+     */
+    @Override
+    public Track dispatch(Collection<Event> collection) {
+        Objects.requireNonNull(collection);
+
+        List<Event> events = new ArrayList<>(collection);
+        if (events.stream().anyMatch(Event::isOpenEnd)) {
+            throw new IllegalArgumentException("All Events must be of fixed duration.");
+        }
+        // The limit is to small for the collection of events.
+        if (events.stream().noneMatch(e -> limit.compareTo(e.getDuration()) >= 1)) {
+            throw new IllegalArgumentException("No solution possible.");
+        }
+
+        // Events longer than the limit can never be taken.
+        max = limit.getSeconds();
+        List<Integer> order = IntStream.range(0, events.size())
+                .filter(i -> events.get(i).getDuration().getSeconds() <= max)
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> events.get(i).getDuration()).reversed())
+                .collect(Collectors.toList());
+        int n = order.size();
+        seconds = new long[n];
+        suffix = new long[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            seconds[i] = events.get(order.get(i)).getDuration().getSeconds();
+            suffix[i] = suffix[i + 1] + seconds[i];
+        }
+        taken = new int[n];
+        bestTaken = new int[n];
+        bestSize = 0;
+        best = 0;
+        nodes = 0;
+        search(0, 0, 0);
+
+        boolean[] chosen = new boolean[events.size()];
+        for (int k = 0; k < bestSize; k++) {
+            chosen[order.get(bestTaken[k])] = true;
+        }
+        Track track = new Track();
+        for (int i = 0; i < events.size(); i++) {
+            if (chosen[i]) {
+                LocalTime time = track.isEmpty() ? start : track.end();
+                track.put(time, events.get(i));
+            }
+        }
+        return track;
+    }
+
+    /**
+     * Searches all solutions, which extend the current branch by events from the
+     * given index on.
+     *
+     * @param i    the index of the next event.
+     * @param size the number of taken events in the current branch.
+     * @param sum  the combined duration of the current branch.
+     * @return {@code true} if the limit has been filled exactly or the deadline has
+     *         expired.
+     */
+    private boolean search(int i, int size, long sum) {
+        // Reading the clock is comparatively expensive.
+        if ((++nodes & 1023) == 0 && deadline.isExpired()) {
+            return true;
+        }
+        if (sum + suffix[i] <= best) {
+            return false;
+        }
+        if (sum + suffix[i] <= max) {
+            // All remaining events fit in.
+            for (int k = i; k < seconds.length; k++) {
+                taken[size++] = k;
+            }
+            record(size, sum + suffix[i]);
+            return best == max;
+        }
+        if (sum + seconds[i] <= max) {
+            taken[size] = i;
+            if (sum + seconds[i] > best) {
+                record(size + 1, sum + seconds[i]);
+                if (best == max) {
+                    return true;
+                }
+            }
+            if (search(i + 1, size + 1, sum + seconds[i])) {
+                return true;
+            }
+        }
+        // Leaving out one event of a duration means leaving out all following events
+        // of the same duration, otherwise the same solution is searched twice.
+        int next = i + 1;
+        while (next < seconds.length && seconds[next] == seconds[i]) {
+            next++;
+        }
+        return next < seconds.length && search(next, size, sum);
+    }
+
+    /**
+     * Records the current branch as the best solution.
+     *
+     * @param size the number of taken events.
+     * @param sum  the combined duration of the taken events.
+     */
+    private void record(int size, long sum) {
+        System.arraycopy(taken, 0, bestTaken, 0, size);
+        bestSize = size;
+        best = sum;
+    }
+}
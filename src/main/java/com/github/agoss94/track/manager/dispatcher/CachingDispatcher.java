@@ -0,0 +1,291 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.github.agoss94.track.manager.CompactTrack;
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The caching dispatcher remembers the tracks of another dispatcher, so
+ * conferences, which are dispatched again, are not planned anew. The tracks only
+ * depend on the durations of the events, so the cache is keyed by the sorted
+ * durations. A cached plan is applied to new events by putting the event of
+ * the same rank in the order of durations into each slot, so the titles of the
+ * new events are kept. Events of the tracks, which are not taken from the given
+ * collection like the lunch, are kept as they are.
+ * <p>
+ * The cache holds a limited number of plans and evicts the least recently used
+ * one first. The caching dispatcher is safe for concurrent use as long as the
+ * other dispatcher is.
+ */
+public class CachingDispatcher implements Dispatcher {
+
+    /**
+     * The default number of cached plans.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Orders the events by their duration, open end events first.
+     */
+    private static final Comparator<Event> BY_DURATION = Comparator.comparing(Event::getDuration,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * The dispatcher, whose tracks are cached.
+     */
+    private final Dispatcher dispatcher;
+
+    /**
+     * The cached plans in the order of their last use.
+     */
+    private final Map<Key, List<Plan>> plans;
+
+    /**
+     * The number of dispatches answered from the cache.
+     */
+    private long hits;
+
+    /**
+     * The number of dispatches passed on to the other dispatcher.
+     */
+    private long misses;
+
+    /**
+     * Creates a caching dispatcher with the default capacity.
+     *
+     * @param dispatcher the dispatcher, whose tracks are cached.
+     * @throws NullPointerException if the dispatcher is {@code null}.
+     */
+    public CachingDispatcher(Dispatcher dispatcher) {
+        this(dispatcher, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a caching dispatcher.
+     *
+     * @param dispatcher the dispatcher, whose tracks are cached.
+     * @param capacity   the number of cached plans.
+     * @throws NullPointerException     if the dispatcher is {@code null}.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public CachingDispatcher(Dispatcher dispatcher, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Plan>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Track dispatch(Collection<Event> events) {
+        return dispatch(events, false).get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Track> dispatchAll(Collection<Event> events) {
+        return dispatch(events, true);
+    }
+
+    /**
+     * Returns the number of dispatches answered from the cache.
+     *
+     * @return the number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of dispatches passed on to the other dispatcher.
+     *
+     * @return the number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of cached plans.
+     *
+     * @return the number of cached plans.
+     */
+    public synchronized int size() {
+        return plans.size();
+    }
+
+    /**
+     * Dispatches the events from the cache or with the other dispatcher.
+     *
+     * @param events the events.
+     * @param all    {@code true} to dispatch all events, {@code false} to
+     *               dispatch a single track.
+     * @return the tracks.
+     */
+    private List<Track> dispatch(Collection<Event> events, boolean all) {
+        List<Event> sorted = new ArrayList<>(events);
+        sorted.sort(BY_DURATION);
+        Key key = new Key(all, sorted);
+        List<Plan> cached;
+        synchronized (this) {
+            cached = plans.get(key);
+            if (cached != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (cached != null) {
+            return cached.stream().map(plan -> plan.create(sorted)).collect(Collectors.toList());
+        }
+        List<Track> tracks = all ? dispatcher.dispatchAll(events) : List.of(dispatcher.dispatch(events));
+        List<Plan> plan = tracks.stream().map(track -> new Plan(track, sorted)).collect(Collectors.toList());
+        synchronized (this) {
+            plans.put(key, plan);
+        }
+        return tracks;
+    }
+
+    /**
+     * The key of a plan.
+     */
+    private static final class Key {
+
+        /**
+         * {@code true} if all events have been dispatched.
+         */
+        private final boolean all;
+
+        /**
+         * The sorted durations of the events.
+         */
+        private final List<Duration> durations;
+
+        /**
+         * Creates the key of the given sorted events.
+         *
+         * @param all    {@code true} if all events are dispatched.
+         * @param sorted the events sorted by duration.
+         */
+        Key(boolean all, List<Event> sorted) {
+            this.all = all;
+            this.durations = new ArrayList<>(sorted.size());
+            for (Event e : sorted) {
+                durations.add(e.getDuration());
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Boolean.hashCode(all) + durations.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return all == other.all && durations.equals(other.durations);
+        }
+    }
+
+    /**
+     * The plan of a track, which refers to the events by their rank in the order
+     * of durations.
+     */
+    private static final class Plan {
+
+        /**
+         * {@code true} if the track is a compact track.
+         */
+        private final boolean compact;
+
+        /**
+         * The start times of the events.
+         */
+        private final LocalTime[] starts;
+
+        /**
+         * The rank of every event or {@code -1} if it is not one of the given
+         * events.
+         */
+        private final int[] ranks;
+
+        /**
+         * The events, which are not one of the given events.
+         */
+        private final Event[] fixed;
+
+        /**
+         * Creates the plan of the given track.
+         *
+         * @param track  the track.
+         * @param sorted the given events sorted by duration.
+         */
+        Plan(Track track, List<Event> sorted) {
+            Map<Event, Deque<Integer>> ranksOf = new IdentityHashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                ranksOf.computeIfAbsent(sorted.get(i), e -> new ArrayDeque<>()).add(i);
+            }
+            compact = track instanceof CompactTrack;
+            starts = new LocalTime[track.size()];
+            ranks = new int[track.size()];
+            fixed = new Event[track.size()];
+            int i = 0;
+            for (Map.Entry<LocalTime, Event> entry : track.entrySet()) {
+                starts[i] = entry.getKey();
+                Deque<Integer> r = ranksOf.get(entry.getValue());
+                if (r == null || r.isEmpty()) {
+                    ranks[i] = -1;
+                    fixed[i] = entry.getValue();
+                } else {
+                    ranks[i] = r.poll();
+                }
+                i++;
+            }
+        }
+
+        /**
+         * Creates the track of the plan for the given events.
+         *
+         * @param sorted the events sorted by duration.
+         * @return the track.
+         */
+        Track create(List<Event> sorted) {
+            Track track = compact ? new CompactTrack() : new Track();
+            for (int i = 0; i < starts.length; i++) {
+                track.put(starts[i], ranks[i] < 0 ? fixed[i] : sorted.get(ranks[i]));
+            }
+            return track;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.github.agoss94.track.manager.CompactTrack;
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * Helper for conference dispatchers, which assemble a track from a morning and
+ * an afternoon session.
+ */
+final class ConferenceTracks {
+
+    /**
+     * No instances.
+     */
+    private ConferenceTracks() {
+    }
+
+    /**
+     * Creates a track, in which the morning events start at 9AM and the afternoon
+     * events at 1PM one after another. Lunch is at 12PM and the networking event
+     * starts at 4PM or after the last afternoon event. The track is a
+     * {@link CompactTrack}, as the conference dispatchers may create a large
+     * number of tracks at once.
+     *
+     * @param morning   the events of the morning session.
+     * @param afternoon the events of the afternoon session.
+     * @return the track.
+     * @throws IllegalStateException if a session does not fit in.
+     */
+    static Track create(List<Event> morning, List<Event> afternoon) {
+        Track track = new CompactTrack();
+        LocalTime time = LocalTime.of(9, 0);
+        for (Event e : morning) {
+            track.put(time, e);
+            time = track.end();
+        }
+        track.put(LocalTime.of(12, 0), new Event("Lunch", Duration.ofHours(1)));
+        time = LocalTime.of(13, 0);
+        for (Event e : afternoon) {
+            track.put(time, e);
+            time = track.end();
+        }
+        LocalTime networkingStart = time.isBefore(LocalTime.of(16, 0)) ? LocalTime.of(16, 0) : time;
+        track.put(networkingStart, new Event("Networking Event"));
+        return track;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A deadline is a point in wall-clock time after which a dispatcher should stop
+ * searching and return the best solution found so far.
+ */
+public final class Deadline {
+
+    /**
+     * The deadline, which never expires.
+     */
+    private static final Deadline NONE = new Deadline(0L, false);
+
+    /**
+     * The value of {@link System#nanoTime()} at which the deadline expires.
+     */
+    private final long expiresAt;
+
+    /**
+     * {@code false} if the deadline never expires.
+     */
+    private final boolean bounded;
+
+    /**
+     * Creates a deadline.
+     *
+     * @param expiresAt the value of {@link System#nanoTime()} at which the
+     *                  deadline expires.
+     * @param bounded   {@code false} if the deadline never expires.
+     */
+    private Deadline(long expiresAt, boolean bounded) {
+        this.expiresAt = expiresAt;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Returns a deadline, which expires after the given budget from now on.
+     *
+     * @param budget the given budget.
+     * @return a deadline, which expires after the given budget.
+     * @throws NullPointerException if the budget is {@code null}.
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget);
+        return new Deadline(System.nanoTime() + budget.toNanos(), true);
+    }
+
+    /**
+     * Returns a deadline, which never expires.
+     *
+     * @return a deadline, which never expires.
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * Returns {@code true} if the deadline has expired.
+     *
+     * @return {@code true} if the deadline has expired.
+     */
+    public boolean isExpired() {
+        return bounded && System.nanoTime() - expiresAt >= 0;
+    }
+}
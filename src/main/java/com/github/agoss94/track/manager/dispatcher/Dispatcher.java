@@ -1,8 +1,12 @@
 package com.github.agoss94.track.manager.dispatcher;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.EventTable;
 import com.github.agoss94.track.manager.Track;
 
 /**
@@ -21,4 +25,45 @@ public interface Dispatcher {
      */
     Track dispatch(Collection<Event> events);
 
+    /**
+     * Dispatches all events of the collection to as many tracks as needed. Every
+     * event of the collection is dispatched exactly once, even if it is equal to
+     * another event. By default tracks are dispatched one after another from the
+     * remaining events.
+     *
+     * @param events a collection of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException     if events is {@code null}.
+     * @throws IllegalArgumentException if one of the Events in the collection is
+     *                                  open end.
+     * @throws IllegalStateException    if a track does not take any of the
+     *                                  remaining events.
+     */
+    default List<Track> dispatchAll(Collection<Event> events) {
+        Objects.requireNonNull(events);
+        List<Event> remaining = new ArrayList<>(events);
+        List<Track> tracks = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            Track track = dispatch(remaining);
+            if (Events.removeTaken(remaining, track.values()) == 0) {
+                throw new IllegalStateException("None of the remaining events could be dispatched.");
+            }
+            tracks.add(track);
+        }
+        return tracks;
+    }
+
+    /**
+     * Dispatches all events of the table like {@link #dispatchAll(Collection)}.
+     * By default the events of the table are created once and dispatched with
+     * {@link #dispatchAll(Collection)}. Dispatchers, which only look at the
+     * durations, can work on the table directly.
+     *
+     * @param table a table of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException if table is {@code null}.
+     */
+    default List<Track> dispatchTable(EventTable table) {
+        return dispatchAll(new ArrayList<>(table.asList()));
+    }
 }
@@ -0,0 +1,258 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.github.agoss94.track.manager.Event;
+
+/**
+ * An index of the remaining events of a dispatcher. The events are kept in
+ * buckets by their duration rounded up to whole minutes, where each bucket
+ * holds its events in input order. A bit set marks the buckets which still
+ * hold events, so the events fitting into a gap are found without looking at
+ * the events which do not.
+ * <p>
+ * Events are never moved, but marked as taken. Each bucket skips its taken
+ * events at the head, so every event is skipped at most once. All events must
+ * be at most 4 hours long.
+ */
+final class EventIndex {
+
+    /**
+     * The largest duration of an event in minutes.
+     */
+    private static final int MAX_MINUTES = 240;
+
+    /**
+     * The events in input order.
+     */
+    private final List<Event> events;
+
+    /**
+     * {@code true} for every event, which has been taken.
+     */
+    private final boolean[] taken;
+
+    /**
+     * The indices of the events of every bucket in input order.
+     */
+    private final int[][] buckets;
+
+    /**
+     * The position of the first event in every bucket, which might not have been
+     * taken.
+     */
+    private final int[] heads;
+
+    /**
+     * The bit {@code m} is set if the bucket {@code m} holds an event, which has
+     * not been taken.
+     */
+    private final long[] nonEmpty = new long[(MAX_MINUTES + 64) / 64];
+
+    /**
+     * The number of events, which have not been taken.
+     */
+    private int size;
+
+    /**
+     * Creates an index of the given events.
+     *
+     * @param events the events in input order.
+     */
+    EventIndex(List<Event> events) {
+        this.events = events;
+        this.taken = new boolean[events.size()];
+        this.size = events.size();
+        int[] minutes = new int[events.size()];
+        int[] counts = new int[MAX_MINUTES + 1];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = bucketOf(events.get(i).getDuration());
+            counts[minutes[i]]++;
+        }
+        buckets = new int[MAX_MINUTES + 1][];
+        for (int m = 0; m <= MAX_MINUTES; m++) {
+            buckets[m] = new int[counts[m]];
+            if (counts[m] > 0) {
+                nonEmpty[m >> 6] |= 1L << m;
+            }
+            counts[m] = 0;
+        }
+        for (int i = 0; i < minutes.length; i++) {
+            buckets[minutes[i]][counts[minutes[i]]++] = i;
+        }
+        heads = new int[MAX_MINUTES + 1];
+    }
+
+    /**
+     * Returns {@code true} if all events have been taken.
+     *
+     * @return {@code true} if all events have been taken.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Takes the first event in input order, which fits into the given gap.
+     *
+     * @param gap the length of the gap.
+     * @return the event or {@code null} if no event fits into the gap.
+     */
+    Event takeFirstFit(Duration gap) {
+        int whole = wholeMinutes(gap);
+        int first = Integer.MAX_VALUE;
+        for (int m = nextBucket(0); m >= 0 && m <= whole; m = nextBucket(m + 1)) {
+            first = Math.min(first, buckets[m][heads[m]]);
+        }
+        int partial = partialBucket(gap, whole);
+        if (partial >= 0) {
+            for (int k = heads[partial]; k < buckets[partial].length && buckets[partial][k] < first; k++) {
+                int i = buckets[partial][k];
+                if (!taken[i] && fits(i, gap)) {
+                    first = i;
+                    break;
+                }
+            }
+        }
+        return first == Integer.MAX_VALUE ? null : take(first);
+    }
+
+    /**
+     * Takes the longest event, which fits into the given gap. Of several events
+     * with the same duration in minutes the first one in input order is taken.
+     *
+     * @param gap the length of the gap.
+     * @return the event or {@code null} if no event fits into the gap.
+     */
+    Event takeBestFit(Duration gap) {
+        int whole = wholeMinutes(gap);
+        int partial = partialBucket(gap, whole);
+        if (partial >= 0) {
+            for (int k = heads[partial]; k < buckets[partial].length; k++) {
+                int i = buckets[partial][k];
+                if (!taken[i] && fits(i, gap)) {
+                    return take(i);
+                }
+            }
+        }
+        int m = previousBucket(whole);
+        return m < 0 ? null : take(buckets[m][heads[m]]);
+    }
+
+    /**
+     * Marks the event at the given index as taken and returns it.
+     *
+     * @param i the index of the event.
+     * @return the event.
+     */
+    private Event take(int i) {
+        Event e = events.get(i);
+        int m = bucketOf(e.getDuration());
+        taken[i] = true;
+        size--;
+        while (heads[m] < buckets[m].length && taken[buckets[m][heads[m]]]) {
+            heads[m]++;
+        }
+        if (heads[m] == buckets[m].length) {
+            nonEmpty[m >> 6] &= ~(1L << m);
+        }
+        return e;
+    }
+
+    /**
+     * Returns the bucket which may hold events fitting into the gap, although
+     * their duration in minutes rounded up is longer than the gap, or {@code -1}
+     * if there is none. This only happens if the gap is not a whole number of
+     * minutes.
+     *
+     * @param gap   the length of the gap.
+     * @param whole the whole minutes of the gap.
+     * @return the bucket or {@code -1}.
+     */
+    private int partialBucket(Duration gap, int whole) {
+        boolean isWhole = gap.equals(Duration.ofMinutes(whole));
+        int m = whole + 1;
+        return isWhole || m > MAX_MINUTES || !hasEvents(m) ? -1 : m;
+    }
+
+    /**
+     * Returns the smallest bucket from the given one on, which holds events, or
+     * {@code -1} if there is none.
+     *
+     * @param from the first bucket.
+     * @return the bucket or {@code -1}.
+     */
+    private int nextBucket(int from) {
+        for (int w = from >> 6; w < nonEmpty.length; w++) {
+            long word = nonEmpty[w] & (w == from >> 6 ? -1L << (from & 63) : -1L);
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the largest bucket up to the given one, which holds events, or
+     * {@code -1} if there is none.
+     *
+     * @param to the last bucket.
+     * @return the bucket or {@code -1}.
+     */
+    private int previousBucket(int to) {
+        for (int w = to >> 6; w >= 0; w--) {
+            long word = nonEmpty[w] & (w == to >> 6 ? -1L >>> (63 - (to & 63)) : -1L);
+            if (word != 0) {
+                return (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the bucket holds events.
+     *
+     * @param m the bucket.
+     * @return {@code true} if the bucket holds events.
+     */
+    private boolean hasEvents(int m) {
+        return (nonEmpty[m >> 6] & 1L << m) != 0;
+    }
+
+    /**
+     * Returns {@code true} if the event at the given index fits into the gap.
+     *
+     * @param i   the index of the event.
+     * @param gap the length of the gap.
+     * @return {@code true} if the event fits into the gap.
+     */
+    private boolean fits(int i, Duration gap) {
+        return events.get(i).getDuration().compareTo(gap) <= 0;
+    }
+
+    /**
+     * Returns the whole minutes of the gap, but at most the longest duration of
+     * an event.
+     *
+     * @param gap the length of the gap.
+     * @return the whole minutes of the gap.
+     */
+    private static int wholeMinutes(Duration gap) {
+        return (int) Math.min(gap.toMinutes(), MAX_MINUTES);
+    }
+
+    /**
+     * Returns the bucket of the duration, which are its minutes rounded up.
+     *
+     * @param duration the duration of an event.
+     * @return the bucket of the duration.
+     */
+    private static int bucketOf(Duration duration) {
+        if (duration.isNegative()) {
+            return 0;
+        }
+        long minutes = duration.toMinutes();
+        return (int) (duration.equals(Duration.ofMinutes(minutes)) ? minutes : minutes + 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.agoss94.track.manager.Event;
+
+/**
+ * Helper for dispatchers, which keep track of the remaining events.
+ */
+final class Events {
+
+    /**
+     * No instances.
+     */
+    private Events() {
+    }
+
+    /**
+     * Removes every taken event exactly once from the list of events. Unlike
+     * {@link List#removeAll(Collection)} an event, which occurs several times in
+     * the list, is only removed as often as it has been taken. Taken events, which
+     * are not in the list like lunch, are ignored. The remaining events keep their
+     * order. The time complexity is O(n + m) for a list with random access.
+     *
+     * @param events the remaining events.
+     * @param taken  the taken events.
+     * @return the number of removed events.
+     */
+    static int removeTaken(List<Event> events, Collection<Event> taken) {
+        Map<Event, Integer> counts = new HashMap<>();
+        for (Event e : taken) {
+            counts.merge(e, 1, Integer::sum);
+        }
+        int kept = 0;
+        for (int i = 0; i < events.size(); i++) {
+            Event e = events.get(i);
+            Integer count = counts.get(e);
+            if (count != null && count > 0) {
+                counts.put(e, count - 1);
+            } else {
+                events.set(kept++, e);
+            }
+        }
+        int removed = events.size() - kept;
+        events.subList(kept, events.size()).clear();
+        return removed;
+    }
+}
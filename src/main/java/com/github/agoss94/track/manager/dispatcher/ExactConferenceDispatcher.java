@@ -0,0 +1,387 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.EventTable;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The exact conference dispatcher plans the whole conference with the minimal
+ * number of tracks. The dispatcher is warm started with the packing of the
+ * {@link BinPackingConferenceDispatcher}. Then for every number of tracks
+ * {@code k} between the lower bound of
+ * {@link BinPackingConferenceDispatcher#lowerBound(Collection)} and the number
+ * of tracks of the warm start, a depth first search decides whether the events
+ * fit into {@code k} tracks. The first {@code k} which fits is optimal.
+ * <p>
+ * The search places the events by decreasing duration into the sessions and
+ * uses the following rules of Martello and Toth to cut off branches:
+ * <p>
+ * <ol>
+ * <li>Sessions of the same kind with the same remaining time are
+ * interchangeable, so only one of them is tried.</li>
+ * <li>If the remaining time of a session equals the duration of an event, the
+ * event is put into this session without trying any other.</li>
+ * <li>Two events of the same duration are put into sessions in the order of
+ * their remaining time, as swapping them leads to the same packing. The order
+ * is not imposed on an event following an event, which took an exactly fitting
+ * session by the previous rule.</li>
+ * <li>Remaining time shorter than the shortest event is wasted. A branch is
+ * cut off if the remaining time which is not wasted is shorter than the
+ * combined duration of the remaining events.</li>
+ * </ol>
+ * The search is limited by a number of nodes and a {@link Deadline}. If the
+ * limit is reached or the deadline has expired the best packing found so far is
+ * returned and {@link #isProvenOptimal()} returns {@code false}. All durations
+ * are assumed to be whole minutes.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Bin_packing_problem">Bin packing
+ *      problem</a>.
+ */
+public class ExactConferenceDispatcher implements Dispatcher {
+
+    /**
+     * The default limit of nodes of the search.
+     */
+    public static final long DEFAULT_NODE_LIMIT = 1_000_000;
+
+    /**
+     * The number of session codes. A session with remaining time {@code r} has
+     * the code {@code 2 * r} if it is a morning session and {@code 2 * r + 1} if
+     * it is an afternoon session.
+     */
+    private static final int CODES = 2 * BinPackingConferenceDispatcher.AFTERNOON + 2;
+
+    /**
+     * The limit of nodes of the search.
+     */
+    private final long nodeLimit;
+
+    /**
+     * The deadline of the search.
+     */
+    private final Deadline deadline;
+
+    /**
+     * {@code true} if the search has been stopped.
+     */
+    private boolean stopped;
+
+    /**
+     * {@code true} if the last packing has been proven to be optimal.
+     */
+    private boolean provenOptimal;
+
+    /**
+     * The durations in minutes sorted in decreasing order.
+     */
+    private int[] durations;
+
+    /**
+     * {@code suffix[i]} holds the combined duration of all events from index
+     * {@code i} on.
+     */
+    private long[] suffix;
+
+    /**
+     * The number of sessions for every session code.
+     */
+    private int[] sessions;
+
+    /**
+     * The code of the session, into which the event at the index has been put.
+     */
+    private int[] chosen;
+
+    /**
+     * The combined remaining time of all sessions.
+     */
+    private long remaining;
+
+    /**
+     * The combined remaining time of all sessions, which is too short for any
+     * event.
+     */
+    private long wasted;
+
+    /**
+     * The number of visited nodes.
+     */
+    private long nodes;
+
+    /**
+     * Creates an exact conference dispatcher with the
+     * {@link #DEFAULT_NODE_LIMIT}.
+     */
+    public ExactConferenceDispatcher() {
+        this(DEFAULT_NODE_LIMIT);
+    }
+
+    /**
+     * Creates an exact conference dispatcher, whose search visits at most the
+     * given number of nodes.
+     *
+     * @param nodeLimit the limit of nodes of the search.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    public ExactConferenceDispatcher(long nodeLimit) {
+        this(nodeLimit, Deadline.none());
+    }
+
+    /**
+     * Creates an exact conference dispatcher, whose search visits at most the
+     * given number of nodes and stops once the deadline has expired.
+     *
+     * @param nodeLimit the limit of nodes of the search.
+     * @param deadline  the deadline of the search.
+     * @throws NullPointerException     if the deadline is {@code null}.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    public ExactConferenceDispatcher(long nodeLimit, Deadline deadline) {
+        if (nodeLimit < 0) {
+            throw new IllegalArgumentException("The node limit must not be negative.");
+        }
+        this.nodeLimit = nodeLimit;
+        this.deadline = Objects.requireNonNull(deadline);
+    }
+
+    /**
+     * Dispatches the collection of events and returns the first track of the
+     * packing. Use {@link #dispatchAll(Collection)} to plan the whole conference.
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public Track dispatch(Collection<Event> c) {
+        List<Track> tracks = dispatchAll(c);
+        return tracks.isEmpty() ? ConferenceTracks.create(List.of(), List.of()) : tracks.get(0);
+    }
+
+    /**
+     * Dispatches all events of the collection to the minimal number of tracks.
+     *
+     * @param c a collection of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public List<Track> dispatchAll(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        List<Event> events = new ArrayList<>(c);
+        return dispatchAll(events, events.stream().mapToInt(e -> (int) e.getDuration().toMinutes()).toArray());
+    }
+
+    /**
+     * Dispatches all events of the table like {@link #dispatchAll(Collection)}.
+     * The search works on the durations of the table only, the events are created
+     * while the tracks are built.
+     *
+     * @param table a table of events.
+     * @return the tracks of the conference.
+     * @throws NullPointerException     if the given table is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours.
+     */
+    @Override
+    public List<Track> dispatchTable(EventTable table) {
+        return dispatchAll(table.asList(), BinPackingConferenceDispatcher.minutesOf(table));
+    }
+
+    /**
+     * Dispatches the given events with the given durations to the minimal number
+     * of tracks.
+     *
+     * @param events  the events.
+     * @param minutes the durations of the events in minutes.
+     * @return the tracks of the conference.
+     */
+    private List<Track> dispatchAll(List<Event> events, int[] minutes) {
+        // Warm start
+        int[] session = BinPackingConferenceDispatcher.pack(minutes);
+        int upperBound = IntStream.of(session).map(s -> s / 2 + 1).max().orElse(0);
+        int lowerBound = BinPackingConferenceDispatcher.lowerBound(minutes);
+
+        List<Integer> order = IntStream.range(0, minutes.length)
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> minutes[i]).reversed())
+                .collect(Collectors.toList());
+        int n = order.size();
+        durations = new int[n];
+        suffix = new long[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            durations[i] = minutes[order.get(i)];
+            suffix[i] = suffix[i + 1] + durations[i];
+        }
+        chosen = new int[n];
+        nodes = 0;
+        stopped = false;
+
+        provenOptimal = true;
+        for (int k = lowerBound; k < upperBound; k++) {
+            if (fits(k)) {
+                int[] sessionOf = assignSessions(k);
+                for (int i = 0; i < n; i++) {
+                    session[order.get(i)] = sessionOf[i];
+                }
+                break;
+            } else if (stopped) {
+                provenOptimal = false;
+                break;
+            }
+        }
+        return BinPackingConferenceDispatcher.createTracks(events, session);
+    }
+
+    /**
+     * Returns {@code true} if the last packing has been proven to use the minimal
+     * number of tracks, {@code false} if the search has been stopped by the node
+     * limit or the deadline.
+     *
+     * @return {@code true} if the last packing is optimal.
+     */
+    public boolean isProvenOptimal() {
+        return provenOptimal;
+    }
+
+    /**
+     * Returns {@code true} if the events fit into the given number of tracks. In
+     * this case {@link #chosen} holds the session codes of the packing.
+     *
+     * @param k the number of tracks.
+     * @return {@code true} if the events fit into the given number of tracks.
+     */
+    private boolean fits(int k) {
+        sessions = new int[CODES];
+        sessions[2 * BinPackingConferenceDispatcher.MORNING] = k;
+        sessions[2 * BinPackingConferenceDispatcher.AFTERNOON + 1] = k;
+        remaining = (long) k * (BinPackingConferenceDispatcher.MORNING + BinPackingConferenceDispatcher.AFTERNOON);
+        wasted = 0;
+        return place(0);
+    }
+
+    /**
+     * Places the event at the given index and all following events.
+     *
+     * @param i the index of the event.
+     * @return {@code true} if all events have been placed.
+     */
+    private boolean place(int i) {
+        if (i == durations.length) {
+            return true;
+        }
+        if (stopped || isStopping() || remaining - wasted < suffix[i]) {
+            return false;
+        }
+        int d = durations[i];
+        // An exactly fitting session dominates all others.
+        for (int code = 2 * d; code <= 2 * d + 1; code++) {
+            if (code < CODES && sessions[code] > 0) {
+                return put(i, code);
+            }
+        }
+        // Events of the same duration are placed in the order of the sessions. This
+        // does not hold after an exactly fitting session, because the previous event
+        // has not been free to take any later session.
+        int last = i > 0 && durations[i - 1] == d && chosen[i - 1] / 2 != d ? chosen[i - 1] : CODES - 1;
+        for (int code = 2 * d; code <= last; code++) {
+            if (sessions[code] > 0 && put(i, code)) {
+                return true;
+            }
+            if (stopped) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the current node and returns {@code true} if the search has to be
+     * stopped because of the node limit or the deadline.
+     *
+     * @return {@code true} if the search has to be stopped.
+     */
+    private boolean isStopping() {
+        nodes++;
+        // Reading the clock is comparatively expensive.
+        stopped = nodes > nodeLimit || (nodes & 1023) == 0 && deadline.isExpired();
+        return stopped;
+    }
+
+    /**
+     * Puts the event at the given index into a session with the given code,
+     * places all following events and takes the event out again if they do not
+     * fit.
+     *
+     * @param i    the index of the event.
+     * @param code the code of the session.
+     * @return {@code true} if all events have been placed.
+     */
+    private boolean put(int i, int code) {
+        int d = durations[i];
+        int next = code - 2 * d;
+        boolean isWasted = next / 2 < durations[durations.length - 1];
+        sessions[code]--;
+        sessions[next]++;
+        remaining -= d;
+        wasted += isWasted ? next / 2 : 0;
+        chosen[i] = code;
+        if (place(i + 1)) {
+            return true;
+        }
+        sessions[code]++;
+        sessions[next]--;
+        remaining += d;
+        wasted -= isWasted ? next / 2 : 0;
+        return false;
+    }
+
+    /**
+     * Assigns actual sessions to the session codes in {@link #chosen}.
+     *
+     * @param k the number of tracks.
+     * @return the session of every event.
+     */
+    private int[] assignSessions(int k) {
+        List<Deque<Integer>> byCode = new ArrayList<>();
+        for (int code = 0; code < CODES; code++) {
+            byCode.add(new ArrayDeque<>());
+        }
+        for (int t = 0; t < k; t++) {
+            byCode.get(2 * BinPackingConferenceDispatcher.MORNING).add(2 * t);
+            byCode.get(2 * BinPackingConferenceDispatcher.AFTERNOON + 1).add(2 * t + 1);
+        }
+        int[] sessionOf = new int[durations.length];
+        for (int i = 0; i < durations.length; i++) {
+            int s = byCode.get(chosen[i]).poll();
+            sessionOf[i] = s;
+            byCode.get(chosen[i] - 2 * durations[i]).add(s);
+        }
+        return sessionOf;
+    }
+
+    /**
+     * Returns {@code true} if the end is open end or longer than 4 hours.
+     *
+     * @param e the given event.
+     * @return {@code true} if the end is open end or longer than 4 hours.
+     */
+    private boolean isEventToLong(Event e) {
+        return e.isOpenEnd() || e.getDuration().compareTo(Duration.ofHours(4)) > 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The joint conference dispatcher plans the morning and the afternoon session
+ * of a track in one pass. Unlike the {@link OptimalConferenceDispatcher}, which
+ * first fills the morning and then the afternoon with the remaining events, it
+ * maximizes the combined duration of both sessions.
+ * <p>
+ * The problem is a multiple knapsack problem with two knapsacks, which is
+ * solved by dynamic programming. For every pair {@code (a, b)} of a morning
+ * fill {@code a} and an afternoon fill {@code b} we remember whether a
+ * selection of events can fill both sessions exactly, and which event first
+ * reached the pair in which session. Events are processed one after another
+ * and the table is updated from the largest pair downwards, so every event is
+ * used at most once. The best reachable pair is an optimal track and the
+ * selection is reconstructed by following the remembered events backwards.
+ * <p>
+ * All fills are measured in multiples of the greatest common divisor of the
+ * durations in minutes, which is 5 for typical conferences. The time complexity
+ * of the algorithm is O(n * 180 * 240 / g^2), where g is the greatest common
+ * divisor, and the space complexity is O(180 * 240 / g^2).
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Multiple_knapsack_problem">Multiple
+ *      knapsack problem</a>.
+ */
+public class JointConferenceDispatcher implements Dispatcher {
+
+    /**
+     * Marks a pair of fills, which cannot be reached by any selection of events.
+     */
+    private static final int UNREACHABLE = -2;
+
+    /**
+     * Marks the empty selection.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * The duration of the morning session in minutes.
+     */
+    private static final int MORNING = 180;
+
+    /**
+     * The duration of the afternoon session in minutes.
+     */
+    private static final int AFTERNOON = 240;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public Track dispatch(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        List<Event> events = new ArrayList<>(c);
+
+        // Measure all fills in multiples of the greatest common divisor.
+        int unit = MORNING;
+        int[] durations = new int[events.size()];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = (int) events.get(i).getDuration().toMinutes();
+            unit = gcd(unit, durations[i]);
+        }
+        unit = gcd(unit, AFTERNOON);
+        int morning = MORNING / unit;
+        int afternoon = AFTERNOON / unit;
+        int width = afternoon + 1;
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] /= unit;
+        }
+
+        // reachedBy[a * width + b] holds 2 * i for the event i, which first reached
+        // the pair (a, b) in the morning and 2 * i + 1 if it was the afternoon.
+        int[] reachedBy = new int[(morning + 1) * width];
+        Arrays.fill(reachedBy, UNREACHABLE);
+        reachedBy[0] = EMPTY;
+        int best = 0;
+        for (int i = 0; i < durations.length && best != reachedBy.length - 1; i++) {
+            int d = durations[i];
+            // Going downwards guarantees that both predecessors have not been reached by
+            // event i.
+            for (int a = morning; a >= 0; a--) {
+                for (int b = afternoon; b >= 0; b--) {
+                    int cell = a * width + b;
+                    if (reachedBy[cell] != UNREACHABLE) {
+                        continue;
+                    }
+                    if (a >= d && reachedBy[cell - d * width] != UNREACHABLE) {
+                        reachedBy[cell] = 2 * i;
+                    } else if (b >= d && reachedBy[cell - d] != UNREACHABLE) {
+                        reachedBy[cell] = 2 * i + 1;
+                    } else {
+                        continue;
+                    }
+                    if (a + b > best / width + best % width) {
+                        best = cell;
+                    }
+                }
+            }
+        }
+
+        List<Event> morningEvents = new ArrayList<>();
+        List<Event> afternoonEvents = new ArrayList<>();
+        for (int cell = best; reachedBy[cell] != EMPTY;) {
+            int i = reachedBy[cell] / 2;
+            if (reachedBy[cell] % 2 == 0) {
+                morningEvents.add(events.get(i));
+                cell -= durations[i] * width;
+            } else {
+                afternoonEvents.add(events.get(i));
+                cell -= durations[i];
+            }
+        }
+        // The events have been collected backwards.
+        Collections.reverse(morningEvents);
+        Collections.reverse(afternoonEvents);
+        return ConferenceTracks.create(morningEvents, afternoonEvents);
+    }
+
+    /**
+     * Returns the greatest common divisor of both numbers.
+     *
+     * @param a the first number.
+     * @param b the second number.
+     * @return the greatest common divisor of both numbers.
+     */
+    private int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns {@code true} if the end is open end or longer than 4 hours.
+     *
+     * @param e the given event.
+     * @return {@code true} if the end is open end or longer than 4 hours.
+     */
+    private boolean isEventToLong(Event e) {
+        return e.isOpenEnd() || e.getDuration().compareTo(Duration.ofHours(4)) > 0;
+    }
+}
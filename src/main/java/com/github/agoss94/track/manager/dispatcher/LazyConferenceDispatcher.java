@@ -9,28 +9,65 @@ import java.util.Objects;
 import java.util.Optional;
 
 import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Gap;
 import com.github.agoss94.track.manager.Track;
 
 /**
  * A lazy implementation of a dispatcher, which tries to add Events as long as
- * possible.
+ * possible. The remaining events are kept in an {@link EventIndex}, so the
+ * event for the next free slot is found in constant time and the whole
+ * conference is planned in linear time. The free slots are the gaps of the
+ * track, which are read from its occupancy bitmap.
  */
 public class LazyConferenceDispatcher implements Dispatcher {
 
+    /**
+     * The rule, by which the event for the next free slot is chosen.
+     */
+    public enum Fit {
+        /**
+         * The first event in input order, which fits into the slot.
+         */
+        FIRST,
+        /**
+         * The longest event, which fits into the slot.
+         */
+        BEST
+    }
+
+    /**
+     * The rule, by which the event for the next free slot is chosen.
+     */
+    private final Fit fit;
+
     /**
      * The track to which events are dispatched.
      */
     private Track track;
 
     /**
-     * The list of Events
+     * The index of the remaining Events
+     */
+    private EventIndex events;
+
+    /**
+     * Creates a lazy dispatcher, which always takes the first event in input order
+     * fitting into the next free slot.
      */
-    private List<Event> events;
+    public LazyConferenceDispatcher() {
+        this(Fit.FIRST);
+    }
 
     /**
-     * Time counter
+     * Creates a lazy dispatcher, which takes the event for the next free slot by
+     * the given rule.
+     *
+     * @param fit the rule, by which the event for the next free slot is chosen.
+     * @throws NullPointerException if fit is {@code null}.
      */
-    private LocalTime time;
+    public LazyConferenceDispatcher(Fit fit) {
+        this.fit = Objects.requireNonNull(fit);
+    }
 
     /**
      * {@inheritDoc}
@@ -45,17 +82,48 @@ public class LazyConferenceDispatcher implements Dispatcher {
         if (c.stream().anyMatch(e -> isEventToLong(e))) {
             throw new IllegalArgumentException("One of the events is longer than 4 hours!");
         }
+        events = new EventIndex(new ArrayList<>(c));
+        return dispatchTrack();
+    }
 
+    /**
+     * Dispatches all events of the collection. The remaining events are kept in
+     * the index between the tracks, so every event is looked at only once.
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours
+     *                                  or open end.
+     */
+    @Override
+    public List<Track> dispatchAll(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        events = new EventIndex(new ArrayList<>(c));
+        List<Track> tracks = new ArrayList<>();
+        while (!events.isEmpty()) {
+            tracks.add(dispatchTrack());
+        }
+        return tracks;
+    }
+
+    /**
+     * Dispatches the remaining events of the index to a new track.
+     *
+     * @return the track.
+     */
+    private Track dispatchTrack() {
         // Fill in fixed Events.
-        track = new Track();
+        track = new Track(true);
         track.put(LocalTime.of(12, 0), new Event("Lunch", Duration.ofHours(1)));
         track.put(LocalTime.of(17, 0), new Event("Networking Event"));
 
         // Dispatch the rest for as long as possible.
-        time = LocalTime.of(9, 0);
-        events = new ArrayList<>(c);
-        while (time.isBefore(LocalTime.MAX)) {
-            dispatchEvent();
+        Optional<Gap> gap = track.firstGap(LocalTime.of(9, 0), Duration.ZERO);
+        while (gap.isPresent() && !events.isEmpty()) {
+            fillGap(gap.get());
+            gap = track.firstGap(gap.get().getEnd(), Duration.ZERO);
         }
 
         return track;
@@ -72,38 +140,29 @@ public class LazyConferenceDispatcher implements Dispatcher {
     }
 
     /**
-     * Dispatch a event for the next free slot.
+     * Dispatches events one after another from the start of the gap until no
+     * remaining event fits into the rest of the gap.
+     *
+     * @param gap the gap.
      */
-    private void dispatchEvent() {
-        // Ceiling key because the end of the last event can also be the beginning of
-        // the next.
-        LocalTime nextEvent = track.ceilingKey(time);
-        Duration timeUntilNext = Duration.between(time, nextEvent);
-        Optional<Event> event = events.stream().filter(e -> fitsInBetween(timeUntilNext, e)).findFirst();
-        if (event.isPresent()) {
-            Event e = event.get();
+    private void fillGap(Gap gap) {
+        LocalTime time = gap.getStart();
+        Event e = take(Duration.between(time, gap.getEnd()));
+        while (e != null) {
             track.put(time, e);
-            events.remove(e);
-            // Since the event has been added the end previous jumps to the end of the last
-            // added event.
-            time = track.endPrevious(time);
-        } else {
-            // Since no Event fits into the time slot between the given time and the next
-            // event. We jump to the end of the next.
-            time = track.endPrevious(nextEvent);
+            time = time.plus(e.getDuration());
+            e = take(Duration.between(time, gap.getEnd()));
         }
     }
 
     /**
-     * Return {@code true} if the duration of the event is shorter than the given
-     * duration.
+     * Takes the event for a slot of the given length by the rule of the
+     * dispatcher.
      *
-     * @param timeUntilNext the time until the next event.
-     * @param e the given event.
-     * @return {@code true} if the duration of the event is shorter than the given
-     * duration.
+     * @param slot the length of the slot.
+     * @return the event or {@code null} if no event fits into the slot.
      */
-    private boolean fitsInBetween(Duration timeUntilNext, Event e) {
-        return e.getDuration().compareTo(timeUntilNext) <= 0;
+    private Event take(Duration slot) {
+        return fit == Fit.FIRST ? events.takeFirstFit(slot) : events.takeBestFit(slot);
     }
 }
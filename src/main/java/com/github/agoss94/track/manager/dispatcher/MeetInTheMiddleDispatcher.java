@@ -0,0 +1,189 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The meet in the middle dispatcher finds an optimal solution for a collection
+ * of events with a given time constraint. Unlike the
+ * {@link SubsetSumDispatcher} its running time does not depend on the time
+ * limit, which makes it suitable for long sessions and durations of arbitrary
+ * precision. The dispatcher performs the following algorithm:
+ * <p>
+ * <ol>
+ * <li>The events are split into two halves and the combined duration of every
+ * subset of each half is enumerated. Subsets longer than the limit are
+ * dropped.</li>
+ * <li>Both lists of combined durations are sorted.</li>
+ * <li>The left list is traversed in ascending and the right list in descending
+ * order. For every left duration the right pointer moves down until both
+ * durations together fit into the limit. The best such pair is an optimal
+ * solution.</li>
+ * </ol>
+ * Every combined duration is packed together with the subset it belongs to into
+ * a single {@code long}, so the enumeration and the sorting do not create any
+ * objects. The time complexity of the algorithm is O(2^(n/2) * n) and the space
+ * complexity is O(2^(n/2)). Therefore the number of events is limited to
+ * {@value #MAX_EVENTS}. All durations are measured in seconds.
+ * <p>
+ * The events are dispatched to a {@link Track}, which holds the events of a
+ * single day. A session therefore has to end by midnight, sessions spanning
+ * several days are not supported.
+ *
+ * @see <a href=
+ *      "https://en.wikipedia.org/wiki/Subset_sum_problem#Horowitz_and_Sahni">Horowitz
+ *      and Sahni</a>.
+ */
+public class MeetInTheMiddleDispatcher implements Dispatcher {
+
+    /**
+     * The largest number of events, which can be dispatched.
+     */
+    public static final int MAX_EVENTS = 40;
+
+    /**
+     * The number of bits reserved for the subset within a packed value.
+     */
+    private static final int MASK_BITS = MAX_EVENTS / 2;
+
+    /**
+     * Marks a subset, which is longer than the limit.
+     */
+    private static final long DROPPED = Long.MAX_VALUE;
+
+    /**
+     * The starting points for all events.
+     */
+    private final LocalTime start;
+
+    /**
+     * The time limitation for dispatching the events.
+     */
+    private final Duration limit;
+
+    /**
+     * Creates a meet in the middle dispatcher, which dispatches events at the
+     * given start time with a maximal duration. The dispatcher finds an optimal
+     * selection of events whose combined duration is less than or equal to the
+     * given limit. Events that do not fit in are discarded.
+     *
+     * @param start the start time of the track.
+     * @param limit the time limit of the track.
+     * @throws NullPointerException     if start or limit is {@code null}.
+     * @throws IllegalArgumentException if the limit is negative or the session
+     *                                  ends after midnight.
+     */
+    public MeetInTheMiddleDispatcher(LocalTime start, Duration limit) {
+        this.start = Objects.requireNonNull(start);
+        this.limit = Objects.requireNonNull(limit);
+        // A session of at most one day can always be packed.
+        if (limit.isNegative() || limit.compareTo(Duration.ofDays(1)) > 0
+                || start.toNanoOfDay() + limit.toNanos() > Duration.ofDays(1).toNanos()) {
+            throw new IllegalArgumentException("The session must end by midnight.");
+        }
+    }
+
+    /**
+     * The dispatcher looks for an optimal solution. No guarantee is given which
+     * solution is picked, if multiple such solutions exist only that it is optimal.
+     *
+     * @param collection a collection of events.
+     * @return a track with an optimal solution under the given time constrain.
+     * @throws NullPointerException     if events is {@code null}.
+     * @throws IllegalArgumentException if one of the events is open end, if no
+     *                                  event fits into the time limit or if there
+     *                                  are more than {@value #MAX_EVENTS} events.
+     */
+    @Override
+    public Track dispatch(Collection<Event> collection) {
+        Objects.requireNonNull(collection);
+
+        List<Event> events = new ArrayList<>(collection);
+        if (events.stream().anyMatch(Event::isOpenEnd)) {
+            throw new IllegalArgumentException("All Events must be of fixed duration.");
+        }
+        // The limit is to small for the collection of events.
+        if (events.stream().noneMatch(e -> limit.compareTo(e.getDuration()) >= 1)) {
+            throw new IllegalArgumentException("No solution possible.");
+        }
+        if (events.size() > MAX_EVENTS) {
+            throw new IllegalArgumentException("At most " + MAX_EVENTS + " events can be dispatched.");
+        }
+
+        long max = limit.getSeconds();
+        long[] seconds = events.stream().mapToLong(e -> e.getDuration().getSeconds()).toArray();
+        int half = seconds.length / 2;
+        long[] left = enumerate(seconds, 0, half, max);
+        long[] right = enumerate(seconds, half, seconds.length, max);
+
+        // Two pointer search over both sorted lists.
+        long best = -1;
+        long bestLeft = 0;
+        long bestRight = 0;
+        int j = right.length - 1;
+        for (int i = 0; i < left.length && left[i] != DROPPED && best < max; i++) {
+            long sumLeft = left[i] >>> MASK_BITS;
+            while (j >= 0 && (right[j] == DROPPED || sumLeft + (right[j] >>> MASK_BITS) > max)) {
+                j--;
+            }
+            if (j < 0) {
+                break;
+            }
+            long sum = sumLeft + (right[j] >>> MASK_BITS);
+            if (sum > best) {
+                best = sum;
+                bestLeft = left[i];
+                bestRight = right[j];
+            }
+        }
+
+        long maskBits = (1L << MASK_BITS) - 1;
+        long leftMask = bestLeft & maskBits;
+        long rightMask = bestRight & maskBits;
+        Track track = new Track();
+        for (int i = 0; i < events.size(); i++) {
+            boolean chosen = i < half ? (leftMask & 1L << i) != 0 : (rightMask & 1L << (i - half)) != 0;
+            if (chosen) {
+                LocalTime time = track.isEmpty() ? start : track.end();
+                track.put(time, events.get(i));
+            }
+        }
+        return track;
+    }
+
+    /**
+     * Enumerates the combined durations of all subsets of the events between
+     * {@code from} and {@code to}. Each value packs the combined duration in the
+     * upper and the subset in the lower {@value #MASK_BITS} bits. Subsets longer
+     * than the limit are marked as {@link #DROPPED}. The returned array is sorted.
+     *
+     * @param seconds the durations of all events in seconds.
+     * @param from    the first index of the half (inclusive).
+     * @param to      the last index of the half (exclusive).
+     * @param max     the limit in seconds.
+     * @return the sorted packed durations of all subsets.
+     */
+    private long[] enumerate(long[] seconds, int from, int to, long max) {
+        long[] packed = new long[1 << (to - from)];
+        for (int mask = 1; mask < packed.length; mask++) {
+            // Every subset extends a smaller subset by its lowest event.
+            long previous = packed[mask & (mask - 1)];
+            if (previous == DROPPED) {
+                packed[mask] = DROPPED;
+                continue;
+            }
+            long sum = (previous >>> MASK_BITS) + seconds[from + Integer.numberOfTrailingZeros(mask)];
+            packed[mask] = sum > max ? DROPPED : sum << MASK_BITS | mask;
+        }
+        Arrays.sort(packed);
+        return packed;
+    }
+}
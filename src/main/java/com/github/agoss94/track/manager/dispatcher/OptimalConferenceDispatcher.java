@@ -2,29 +2,65 @@ package com.github.agoss94.track.manager.dispatcher;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.BiFunction;
 
 import com.github.agoss94.track.manager.Event;
 import com.github.agoss94.track.manager.Track;
 
 /**
- * An implementation of an optimal conference dispatcher based on the algorithm
- * described in {@link OptimalDispatcher}.
+ * An implementation of an optimal conference dispatcher. By default the
+ * sessions are planned with the algorithm described in
+ * {@link OptimalDispatcher}, but any other session dispatcher can be used
+ * instead. A session is left empty if no remaining event is shorter than the
+ * session.
  */
 public class OptimalConferenceDispatcher implements Dispatcher {
 
     /**
      * Dispatcher for finding a optimal morning session.
      */
-    private final Dispatcher dispatcherMorning = new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3));
+    private final Dispatcher dispatcherMorning;
 
     /**
      * Dispatcher for finding a optimal afternoon session.
      */
-    private final Dispatcher dispatcherAfternoon = new OptimalDispatcher(LocalTime.of(13, 0), Duration.ofHours(4));
+    private final Dispatcher dispatcherAfternoon;
+
+    /**
+     * The duration of the morning session.
+     */
+    private static final Duration MORNING = Duration.ofHours(3);
+
+    /**
+     * The duration of the afternoon session.
+     */
+    private static final Duration AFTERNOON = Duration.ofHours(4);
+
+    /**
+     * Creates a conference dispatcher, which plans both sessions with an
+     * {@link OptimalDispatcher}.
+     */
+    public OptimalConferenceDispatcher() {
+        this(OptimalDispatcher::new);
+    }
+
+    /**
+     * Creates a conference dispatcher, which plans both sessions with the session
+     * dispatchers created by the given factory. The factory is called with the
+     * start time and the time limit of the morning and the afternoon session.
+     *
+     * @param sessionDispatcher a factory for session dispatchers.
+     * @throws NullPointerException if the factory is {@code null}.
+     */
+    public OptimalConferenceDispatcher(BiFunction<LocalTime, Duration, Dispatcher> sessionDispatcher) {
+        Objects.requireNonNull(sessionDispatcher);
+        dispatcherMorning = sessionDispatcher.apply(LocalTime.of(9, 0), MORNING);
+        dispatcherAfternoon = sessionDispatcher.apply(LocalTime.of(13, 0), AFTERNOON);
+    }
 
     /**
      * {@inheritDoc}
@@ -38,18 +74,56 @@ public class OptimalConferenceDispatcher implements Dispatcher {
         if (c.stream().anyMatch(e -> isEventToLong(e))) {
             throw new IllegalArgumentException("One of the events is longer than 4 hours!");
         }
+        return dispatchTrack(new ArrayList<>(c));
+    }
+
+    /**
+     * Dispatches all events of the collection. The remaining events are kept in a
+     * list between the tracks and every event is dispatched exactly once.
+     *
+     * @throws NullPointerException     if the given collection is {@code null}.
+     * @throws IllegalArgumentException if any of the Events is longer than 4 hours.
+     * @throws IllegalStateException    if none of the remaining events is shorter
+     *                                  than the afternoon session.
+     */
+    @Override
+    public List<Track> dispatchAll(Collection<Event> c) {
+        Objects.requireNonNull(c);
+        if (c.stream().anyMatch(e -> isEventToLong(e))) {
+            throw new IllegalArgumentException("One of the events is longer than 4 hours!");
+        }
+        List<Event> events = new ArrayList<>(c);
+        List<Track> tracks = new ArrayList<>();
+        while (!events.isEmpty()) {
+            int remaining = events.size();
+            tracks.add(dispatchTrack(events));
+            if (events.size() == remaining) {
+                throw new IllegalStateException("None of the remaining events could be dispatched.");
+            }
+        }
+        return tracks;
+    }
+
+    /**
+     * Dispatches the remaining events to a new track and removes the dispatched
+     * events from the list.
+     *
+     * @param events the remaining events.
+     * @return the track.
+     */
+    private Track dispatchTrack(List<Event> events) {
         Track track = new Track();
-        Set<Event> events = new HashSet<>(c);
 
         // Morning events
-        Track morningsSession = dispatcherMorning.dispatch(events);
+        Track morningsSession = dispatchSession(dispatcherMorning, MORNING, events);
         track.putAll(morningsSession);
         track.put(LocalTime.of(12, 0), new Event("Lunch", Duration.ofHours(1)));
-        events.removeAll(morningsSession.values());
+        Events.removeTaken(events, morningsSession.values());
 
         // Afternoon events
-        Track afternoonSession = dispatcherAfternoon.dispatch(events);
+        Track afternoonSession = dispatchSession(dispatcherAfternoon, AFTERNOON, events);
         track.putAll(afternoonSession);
+        Events.removeTaken(events, afternoonSession.values());
         LocalTime end = track.end();
         LocalTime networkingStart = end.isBefore(LocalTime.of(16, 0)) ? LocalTime.of(16, 0) : end;
         track.put(networkingStart, new Event("Networking Event"));
@@ -57,6 +131,23 @@ public class OptimalConferenceDispatcher implements Dispatcher {
         return track;
     }
 
+    /**
+     * Dispatches the events with the given session dispatcher. The session stays
+     * empty if no event is shorter than the session, as the session dispatchers
+     * reject such collections.
+     *
+     * @param dispatcher the session dispatcher.
+     * @param limit      the duration of the session.
+     * @param events     the remaining events.
+     * @return the session.
+     */
+    private Track dispatchSession(Dispatcher dispatcher, Duration limit, List<Event> events) {
+        if (events.stream().noneMatch(e -> limit.compareTo(e.getDuration()) >= 1)) {
+            return new Track();
+        }
+        return dispatcher.dispatch(events);
+    }
+
     /**
      * Returns {@code true} if the end is open end or longer than 5 hours.
      *
@@ -2,14 +2,24 @@ package com.github.agoss94.track.manager.dispatcher;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.github.agoss94.track.manager.Event;
 import com.github.agoss94.track.manager.Track;
@@ -33,11 +43,27 @@ import com.github.agoss94.track.manager.Track;
  * the construction there must be an optimal solution among the set of all
  * constructed solutions.</li>
  * </ol>
- * The time complexity of the algorithm is O(2^n), but is more performant if
+ * If all events last whole minutes, no subsets are constructed at all. The
+ * {@link SubsetSumKernel} computes all reachable fills in O(n * limit / 64) and
+ * the optimal selection is reconstructed from its back pointers. The subsets
+ * are only constructed for events, which last fractions of a minute.
+ * <p>
+ * The time complexity of the construction is O(2^n), but is more performant if
  * already a large subsets are possible solutions. One should also note that the
  * solution is unstable. Which solution might be picked can vary from run to
  * run.
  * <p>
+ * The subsets constructed from different non-solutions are independent of each
+ * other. If the dispatcher is created with a parallelism level greater than one,
+ * every step is therefore performed in parallel on a {@link ForkJoinPool} and
+ * the new subsets are collected in a concurrent set. The pool is only created
+ * for the construction and shut down afterwards.
+ * <p>
+ * If the dispatcher is created with a {@link Deadline}, the deadline is checked
+ * before every step, before the subsets of any subset are constructed and every
+ * {@value #CHECK_INTERVAL} solutions within a step. Once it has expired the best
+ * solution constructed so far is returned, which might be empty.
+ * <p>
  * In principle the algorithm is a solution of the subset sum problem.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Subset_sum_problem">Subset sum
@@ -45,6 +71,11 @@ import com.github.agoss94.track.manager.Track;
  */
 public class OptimalDispatcher implements Dispatcher {
 
+    /**
+     * The number of subsets, after which the deadline is checked again.
+     */
+    private static final int CHECK_INTERVAL = 256;
+
     /**
      * The starting points for all events.
      */
@@ -55,6 +86,27 @@ public class OptimalDispatcher implements Dispatcher {
      */
     private final Duration limit;
 
+    /**
+     * The kernel computing the optimal selection in minutes.
+     */
+    private final SubsetSumKernel kernel;
+
+    /**
+     * The number of threads constructing subsets.
+     */
+    private final int parallelism;
+
+    /**
+     * The pool for constructing the subsets in parallel or {@code null} if the
+     * subsets are constructed sequentially or not at all.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The deadline, after which the best solution so far is returned.
+     */
+    private final Deadline deadline;
+
     /**
      * Each array of length n (number = events.size()) in the set correspondences
      * with a subset of events.
@@ -77,8 +129,47 @@ public class OptimalDispatcher implements Dispatcher {
      * @throws NullPointerException if start or limit is {@code null}.
      */
     public OptimalDispatcher(LocalTime start, Duration limit) {
+        this(start, limit, 1);
+    }
+
+    /**
+     * Creates an optimal dispatcher, which dispatches events at the given start
+     * time with a maximal duration and constructs subsets with the given level of
+     * parallelism.
+     *
+     * @param start       the start time of the track.
+     * @param limit       the time limit of the track.
+     * @param parallelism the number of threads constructing subsets.
+     * @throws NullPointerException     if start or limit is {@code null}.
+     * @throws IllegalArgumentException if the parallelism is less than one.
+     */
+    public OptimalDispatcher(LocalTime start, Duration limit, int parallelism) {
+        this(start, limit, parallelism, Deadline.none());
+    }
+
+    /**
+     * Creates an optimal dispatcher, which dispatches events at the given start
+     * time with a maximal duration, constructs subsets with the given level of
+     * parallelism and returns the best solution so far once the deadline has
+     * expired.
+     *
+     * @param start       the start time of the track.
+     * @param limit       the time limit of the track.
+     * @param parallelism the number of threads constructing subsets.
+     * @param deadline    the deadline of the search.
+     * @throws NullPointerException     if start, limit or deadline is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the parallelism is less than one.
+     */
+    public OptimalDispatcher(LocalTime start, Duration limit, int parallelism, Deadline deadline) {
         this.start = Objects.requireNonNull(start);
         this.limit = Objects.requireNonNull(limit);
+        this.deadline = Objects.requireNonNull(deadline);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least one.");
+        }
+        this.kernel = new SubsetSumKernel((int) limit.toMinutes());
+        this.parallelism = parallelism;
     }
 
     /**
@@ -102,23 +193,14 @@ public class OptimalDispatcher implements Dispatcher {
             throw new IllegalArgumentException("No solution possible.");
         }
 
-        int[] fullSet = new int[collection.size()];
-        Arrays.fill(fullSet, 1);
-        subsets = new HashSet<>();
-        subsets.add(fullSet);
-
-        // The loop continues until there is only a set of solution
-        // This set must contain an optimal solution.
-        while (subsets.stream().anyMatch(s -> !isSolution(s))) {
-            findSubsets();
+        boolean[] chosen = solve();
+        if (chosen == null) {
+            chosen = search();
         }
 
-        int[] optimalSolution = Collections.max(subsets,
-                (a, b) -> calculateDuration(a).compareTo(calculateDuration(b)));
-
         Track track = new Track();
         for (int i = 0; i < events.size(); i++) {
-            if (optimalSolution[i] == 1) {
+            if (chosen[i]) {
                 LocalTime time = track.isEmpty() ? start : track.end();
                 track.put(time, events.get(i));
             }
@@ -127,6 +209,62 @@ public class OptimalDispatcher implements Dispatcher {
         return track;
     }
 
+    /**
+     * Searches an optimal selection by constructing subsets until only solutions
+     * are left or the deadline has expired.
+     *
+     * @return an array marking the chosen events.
+     */
+    private boolean[] search() {
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try {
+            return searchSubsets();
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+    }
+
+    /**
+     * Constructs subsets until only solutions are left or the deadline has
+     * expired and returns the best solution.
+     *
+     * @return an array marking the chosen events.
+     */
+    private boolean[] searchSubsets() {
+        int[] fullSet = new int[events.size()];
+        Arrays.fill(fullSet, 1);
+        subsets = pool == null ? new HashSet<>() : ConcurrentHashMap.newKeySet();
+        subsets.add(fullSet);
+
+        // The loop continues until there is only a set of solution or an optimal
+        // solution has been found. This set must contain an optimal solution.
+        while (!deadline.isExpired() && anyMatch(s -> !isSolution(s))) {
+            if (pool == null) {
+                findSubsets();
+            } else {
+                findSubsetsParallel();
+            }
+        }
+
+        // Without a deadline the set always contains a solution. The duration of
+        // every subset is calculated once, since the set can be large once the
+        // deadline has expired.
+        int[] optimalSolution = compute(() -> stream()
+                .map(subset -> new SimpleImmutableEntry<>(subset, calculateDuration(subset)))
+                .filter(entry -> limit.compareTo(entry.getValue()) >= 0)
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(new int[events.size()]));
+        boolean[] chosen = new boolean[events.size()];
+        for (int i = 0; i < chosen.length; i++) {
+            chosen[i] = optimalSolution[i] == 1;
+        }
+        return chosen;
+    }
+
     /**
      * We construct subset to all non-solution arrays and add them to
      * {@link #subsets}
@@ -134,9 +272,17 @@ public class OptimalDispatcher implements Dispatcher {
     private void findSubsets() {
         Set<int[]> newSubsets = new HashSet<>();
         Set<int[]> toRemove = new HashSet<>();
+        int visited = 0;
         for (int[] subset : subsets) {
             // A solution cannot have a better subset solution.
-            if (!isSolution(subset)) {
+            boolean solution = isSolution(subset);
+            // The remaining subsets of the step are kept as they are. A subset is
+            // only constructed after checking the deadline, since it creates up to
+            // one new subset for every event.
+            if ((!solution || ++visited % CHECK_INTERVAL == 0) && deadline.isExpired()) {
+                break;
+            }
+            if (!solution) {
                 toRemove.add(subset);
                 newSubsets.addAll(constructSubsets(subset));
             }
@@ -145,6 +291,63 @@ public class OptimalDispatcher implements Dispatcher {
         subsets.addAll(newSubsets);
     }
 
+    /**
+     * We construct subset to all non-solution arrays in parallel and replace
+     * {@link #subsets} by the solutions and the new subsets.
+     */
+    private void findSubsetsParallel() {
+        Set<int[]> newSubsets = ConcurrentHashMap.newKeySet();
+        AtomicInteger visited = new AtomicInteger();
+        AtomicBoolean expired = new AtomicBoolean();
+        pool.invoke(ForkJoinTask.adapt(() -> subsets.parallelStream().forEach(subset -> {
+            boolean solution = expired.get() || isSolution(subset);
+            if (!expired.get() && (!solution || visited.incrementAndGet() % CHECK_INTERVAL == 0)
+                    && deadline.isExpired()) {
+                expired.set(true);
+            }
+            // A solution cannot have a better subset solution. Once the deadline has
+            // expired the remaining subsets are kept as they are.
+            if (solution || expired.get()) {
+                newSubsets.add(subset);
+            } else {
+                newSubsets.addAll(constructSubsets(subset));
+            }
+        })));
+        subsets = newSubsets;
+    }
+
+    /**
+     * Returns {@code true} if any of the {@link #subsets} matches the predicate.
+     *
+     * @param predicate the given predicate.
+     * @return {@code true} if any of the subsets matches the predicate.
+     */
+    private boolean anyMatch(Predicate<int[]> predicate) {
+        return compute(() -> stream().anyMatch(predicate));
+    }
+
+    /**
+     * Returns a stream of the {@link #subsets}, which is parallel if the dispatcher
+     * works in parallel.
+     *
+     * @return a stream of the subsets.
+     */
+    private Stream<int[]> stream() {
+        return pool == null ? subsets.stream() : subsets.parallelStream();
+    }
+
+    /**
+     * Computes the given task within the pool of the dispatcher, so parallel
+     * streams use the configured parallelism.
+     *
+     * @param <T>  the type of the result.
+     * @param task the given task.
+     * @return the result of the task.
+     */
+    private <T> T compute(Supplier<T> task) {
+        return pool == null ? task.get() : pool.invoke(ForkJoinTask.adapt(task::get));
+    }
+
     /**
      * We construct new subsets by leaving out one more element over a threshold
      * {@code min}, whereas {@code min} is the smallest index of an element that is
@@ -182,6 +385,25 @@ public class OptimalDispatcher implements Dispatcher {
         return limit.compareTo(calculateDuration(subset)) >= 0;
     }
 
+    /**
+     * Returns an optimal selection as reconstructed by the {@link SubsetSumKernel}
+     * or {@code null} if not all events last whole minutes.
+     *
+     * @return an array marking the chosen events or {@code null} if it cannot be
+     *         computed.
+     */
+    private boolean[] solve() {
+        int[] durations = new int[events.size()];
+        for (int i = 0; i < durations.length; i++) {
+            Duration d = events.get(i).getDuration();
+            if (!d.equals(Duration.ofMinutes(d.toMinutes())) || d.isNegative()) {
+                return null;
+            }
+            durations[i] = (int) Math.min(d.toMinutes(), Integer.MAX_VALUE);
+        }
+        return kernel.reconstruct(kernel.solve(durations, durations.length), durations.length);
+    }
+
     /**
      * Returns the combined duration of a subset of events as indicated by the given
      * array.
@@ -190,14 +412,17 @@ public class OptimalDispatcher implements Dispatcher {
      * @return the combined duration of all chosen events.
      */
     private Duration calculateDuration(int[] subset) {
-        Duration d = Duration.ZERO;
+        // Seconds and nanos are summed separately to avoid a duration per event.
+        long seconds = 0;
+        long nanos = 0;
         for (int i = 0; i < events.size(); i++) {
             if (subset[i] == 1) {
-                Event e = events.get(i);
-                d = d.plus(e.getDuration());
+                Duration d = events.get(i).getDuration();
+                seconds = Math.addExact(seconds, d.getSeconds());
+                nanos += d.getNano();
             }
         }
-        return d;
+        return Duration.ofSeconds(seconds, nanos);
     }
 
     /**
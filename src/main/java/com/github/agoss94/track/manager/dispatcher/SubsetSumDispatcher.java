@@ -0,0 +1,103 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The subset sum dispatcher solves the same problem as the
+ * {@link OptimalDispatcher}, but uses dynamic programming over the minutes of
+ * the time limit instead of enumerating subsets of events.
+ * <p>
+ * For every minute {@code m} between zero and the limit we remember whether a
+ * selection of events exists whose combined duration is exactly {@code m}. The
+ * reachable minutes are computed by the {@link SubsetSumKernel} one event after
+ * another. The largest reachable minute is the optimal fill and the selection
+ * is reconstructed by following the reachable minutes backwards.
+ * <p>
+ * The time complexity of the algorithm is O(n * limit / 64) and the space
+ * complexity is O(n * limit / 64), where the limit is measured in minutes. All
+ * durations are assumed to be whole minutes.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Subset_sum_problem">Subset sum
+ *      problem</a>.
+ */
+public class SubsetSumDispatcher implements Dispatcher {
+
+    /**
+     * The starting points for all events.
+     */
+    private final LocalTime start;
+
+    /**
+     * The time limitation for dispatching the events.
+     */
+    private final Duration limit;
+
+    /**
+     * The kernel computing the reachable fills in minutes.
+     */
+    private final SubsetSumKernel kernel;
+
+    /**
+     * Creates a subset sum dispatcher, which dispatches events at the given start
+     * time with a maximal duration. The dispatcher finds an optimal selection of
+     * events whose combined duration is less than or equal to the given limit.
+     * Events that do not fit in are discarded.
+     *
+     * @param start the start time of the track.
+     * @param limit the time limit of the track.
+     * @throws NullPointerException if start or limit is {@code null}.
+     */
+    public SubsetSumDispatcher(LocalTime start, Duration limit) {
+        this.start = Objects.requireNonNull(start);
+        this.limit = Objects.requireNonNull(limit);
+        this.kernel = new SubsetSumKernel((int) limit.toMinutes());
+    }
+
+    /**
+     * The dispatcher looks for an optimal solution. If multiple optimal solutions
+     * exist the chosen events are always the same for the same input order.
+     *
+     * @param collection a collection of events.
+     * @return a track with an optimal solution under the given time constrain.
+     * @throws NullPointerException     if events is {@code null}.
+     * @throws IllegalArgumentException if one of the events is open end or if no
+     *                                  event fits into the time limit.
+     */
+    @Override
+    public Track dispatch(Collection<Event> collection) {
+        Objects.requireNonNull(collection);
+
+        List<Event> events = new ArrayList<>(collection);
+        if (events.stream().anyMatch(Event::isOpenEnd)) {
+            throw new IllegalArgumentException("All Events must be of fixed duration.");
+        }
+        // The limit is to small for the collection of events.
+        if (events.stream().noneMatch(e -> limit.compareTo(e.getDuration()) >= 1)) {
+            throw new IllegalArgumentException("No solution possible.");
+        }
+
+        int[] durations = new int[events.size()];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = (int) Math.min(events.get(i).getDuration().toMinutes(), Integer.MAX_VALUE);
+        }
+        int best = kernel.solve(durations, durations.length);
+        boolean[] chosen = kernel.reconstruct(best, durations.length);
+
+        Track track = new Track();
+        for (int i = 0; i < events.size(); i++) {
+            if (chosen[i]) {
+                LocalTime time = track.isEmpty() ? start : track.end();
+                track.put(time, events.get(i));
+            }
+        }
+        return track;
+    }
+}
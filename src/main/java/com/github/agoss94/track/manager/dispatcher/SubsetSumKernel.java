@@ -0,0 +1,185 @@
+package com.github.agoss94.track.manager.dispatcher;
+
+/**
+ * The subset sum kernel computes all reachable fills of a session for a list of
+ * durations. The reachable fills are stored in a bitset of {@code long} words,
+ * in which bit {@code m} is set if a selection of durations adds up to exactly
+ * {@code m}. Adding a duration {@code d} to all selections is a shift of the
+ * bitset by {@code d} bits, so each duration is processed with a single
+ * shift-or over {@code capacity / 64} words.
+ * <p>
+ * The kernel keeps one bitset per processed duration, which serve as back
+ * pointers for the reconstruction of an optimal selection. The rows are
+ * allocated once and reused for every following call, so solving does not
+ * allocate anything per duration. The time complexity is O(n * capacity / 64)
+ * and the space complexity is O(n * capacity / 64).
+ * <p>
+ * A kernel is not thread safe.
+ */
+public final class SubsetSumKernel {
+
+    /**
+     * The largest fill of interest.
+     */
+    private final int capacity;
+
+    /**
+     * The number of words of a single bitset.
+     */
+    private final int words;
+
+    /**
+     * Row {@code i} holds the fills reachable with the first {@code i} durations.
+     */
+    private long[] rows;
+
+    /**
+     * The durations of the last call to {@link #solve(int[], int)}.
+     */
+    private int[] durations;
+
+    /**
+     * The number of durations, which have been processed in the last call.
+     */
+    private int processed;
+
+    /**
+     * Creates a kernel for fills between zero and the given capacity.
+     *
+     * @param capacity the largest fill of interest.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public SubsetSumKernel(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative.");
+        }
+        this.capacity = capacity;
+        this.words = (capacity >>> 6) + 1;
+        this.rows = new long[words];
+    }
+
+    /**
+     * Computes all reachable fills for the first {@code n} durations and returns
+     * the largest one, which does not exceed the capacity. The computation stops
+     * early, if the capacity is filled exactly.
+     *
+     * @param durations the durations.
+     * @param n         the number of durations to regard.
+     * @return the largest reachable fill.
+     * @throws IllegalArgumentException if one of the durations is negative.
+     */
+    public int solve(int[] durations, int n) {
+        if (rows.length < (n + 1) * words) {
+            rows = new long[(n + 1) * words];
+        }
+        this.durations = durations;
+        for (int w = 0; w < words; w++) {
+            rows[w] = 0L;
+        }
+        rows[0] = 1L;
+
+        int best = 0;
+        processed = 0;
+        while (processed < n && best < capacity) {
+            int d = durations[processed];
+            if (d < 0) {
+                throw new IllegalArgumentException("Durations must not be negative.");
+            }
+            shiftOr(processed * words, (processed + 1) * words, d);
+            processed++;
+            best = highestBit(processed * words);
+        }
+        return best;
+    }
+
+    /**
+     * Returns {@code true} if the given fill is reachable with the durations of
+     * the last call to {@link #solve(int[], int)}.
+     *
+     * @param fill the given fill.
+     * @return {@code true} if the given fill is reachable.
+     */
+    public boolean isReachable(int fill) {
+        return fill >= 0 && fill <= capacity && isSet(processed * words, fill);
+    }
+
+    /**
+     * Reconstructs a selection of durations from the last call to
+     * {@link #solve(int[], int)} which adds up to the given fill. The returned
+     * array marks every chosen index.
+     *
+     * @param fill a reachable fill.
+     * @param n    the length of the returned array.
+     * @return an array marking the chosen indices.
+     * @throws IllegalArgumentException if the fill is not reachable.
+     */
+    public boolean[] reconstruct(int fill, int n) {
+        if (!isReachable(fill)) {
+            throw new IllegalArgumentException("The fill " + fill + " is not reachable.");
+        }
+        boolean[] chosen = new boolean[n];
+        int m = fill;
+        for (int i = processed - 1; i >= 0 && m > 0; i--) {
+            // If m was not reachable without duration i, duration i is part of the
+            // selection.
+            if (!isSet(i * words, m)) {
+                chosen[i] = true;
+                m -= durations[i];
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Writes the row at {@code src} or'ed with itself shifted by {@code d} bits to
+     * the row at {@code dst}.
+     *
+     * @param src the offset of the source row.
+     * @param dst the offset of the destination row.
+     * @param d   the number of bits to shift.
+     */
+    private void shiftOr(int src, int dst, int d) {
+        int wordShift = d >>> 6;
+        int bitShift = d & 63;
+        for (int w = words - 1; w >= 0; w--) {
+            long shifted = 0L;
+            int from = w - wordShift;
+            if (from >= 0) {
+                shifted = rows[src + from] << bitShift;
+                if (bitShift != 0 && from > 0) {
+                    shifted |= rows[src + from - 1] >>> (64 - bitShift);
+                }
+            }
+            rows[dst + w] = rows[src + w] | shifted;
+        }
+        // Clear all bits above the capacity.
+        rows[dst + words - 1] &= -1L >>> (63 - (capacity & 63));
+    }
+
+    /**
+     * Returns the highest set bit of the row at the given offset.
+     *
+     * @param row the offset of the row.
+     * @return the highest set bit.
+     */
+    private int highestBit(int row) {
+        for (int w = words - 1; w >= 0; w--) {
+            long word = rows[row + w];
+            if (word != 0L) {
+                return (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the given bit is set in the row at the given offset.
+     *
+     * @param row the offset of the row.
+     * @param bit the bit.
+     * @return {@code true} if the given bit is set.
+     */
+    private boolean isSet(int row, int bit) {
+        return (rows[row + (bit >>> 6)] & (1L << bit)) != 0L;
+    }
+}
@@ -0,0 +1,258 @@
+package com.github.agoss94.track.manager.io;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The binary schedule reader reads the tracks of a schedule written by
+ * {@link BinaryScheduleWriter}. The schedule is read in place from a memory
+ * mapped file or a given buffer. Opening a schedule only locates the titles and
+ * the tracks and checks that the events of every track do not overlap. Every
+ * track is decoded when it is requested and every title is decoded once when it
+ * is first needed.
+ */
+public final class BinaryScheduleReader {
+
+    /**
+     * The number of seconds of a day.
+     */
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    /**
+     * The bytes of the schedule.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The positions of the UTF-8 bytes of the titles.
+     */
+    private final int[] titleOffsets;
+
+    /**
+     * The number of UTF-8 bytes of the titles.
+     */
+    private final int[] titleLengths;
+
+    /**
+     * The titles decoded so far.
+     */
+    private final String[] titles;
+
+    /**
+     * The positions of the tracks.
+     */
+    private final int[] trackOffsets;
+
+    /**
+     * The position while decoding.
+     */
+    private int position;
+
+    /**
+     * Creates a reader of the binary schedule in the given buffer. The buffer is
+     * not copied and must not be changed while the reader is used.
+     *
+     * @param buffer the bytes of the schedule.
+     * @throws IOException if the buffer holds no valid binary schedule, for
+     *                     example if it is truncated or holds overlapping events.
+     */
+    public BinaryScheduleReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice();
+        try {
+            for (byte b : BinaryScheduleWriter.MAGIC) {
+                if (this.buffer.get(position++) != b) {
+                    throw new IOException("The file is no binary schedule.");
+                }
+            }
+            if (readVarint() != BinaryScheduleWriter.VERSION) {
+                throw new IOException("The version of the binary schedule is not supported.");
+            }
+            int tracks = readCount();
+            int count = readCount();
+            if (tracks > this.buffer.limit() || count > this.buffer.limit()) {
+                throw new IndexOutOfBoundsException();
+            }
+            titleOffsets = new int[count];
+            titleLengths = new int[count];
+            titles = new String[count];
+            for (int i = 0; i < count; i++) {
+                titleLengths[i] = readCount();
+                titleOffsets[i] = position;
+                position = Math.addExact(position, titleLengths[i]);
+            }
+            trackOffsets = new int[tracks];
+            int[] starts = new int[0];
+            for (int t = 0; t < tracks; t++) {
+                trackOffsets[t] = position;
+                int n = readCount();
+                if (n > this.buffer.limit()) {
+                    throw new IndexOutOfBoundsException();
+                }
+                if (starts.length < n) {
+                    starts = new int[n];
+                }
+                skipTrack(starts, n, count);
+            }
+            if (position > this.buffer.limit()) {
+                throw new IndexOutOfBoundsException();
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | ArithmeticException e) {
+            throw new IOException("The binary schedule is truncated.", e);
+        }
+    }
+
+    /**
+     * Skips the columns of a track of the given number of events and checks that
+     * the events fit into a day one after another without overlapping and refer
+     * to existing titles.
+     *
+     * @param starts the array for the start times of the events.
+     * @param n      the number of events.
+     * @param count  the number of titles.
+     * @throws IOException if the track is invalid.
+     */
+    private void skipTrack(int[] starts, int n, int count) throws IOException {
+        long start = 0;
+        for (int i = 0; i < n; i++) {
+            long delta = readVarint();
+            if (delta < 0 || delta >= SECONDS_PER_DAY - start || (i > 0 && delta == 0)) {
+                throw new IOException("The binary schedule holds an invalid start time.");
+            }
+            start += delta;
+            starts[i] = (int) start;
+        }
+        for (int i = 0; i < n; i++) {
+            long duration = readVarint();
+            // Only the last event may be open or last past the next start.
+            if (duration < 0 || (i + 1 < n && (duration == 0 || duration - 1 > starts[i + 1] - starts[i]))) {
+                throw new IOException("The binary schedule holds overlapping events.");
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            long title = readVarint();
+            if (title < 0 || title >= count) {
+                throw new IOException("The binary schedule refers to an unknown title.");
+            }
+        }
+    }
+
+    /**
+     * Opens the binary schedule file at the given path by mapping it into memory.
+     *
+     * @param path the path of the file.
+     * @return the reader of the schedule.
+     * @throws IOException if the file cannot be read or is no binary schedule.
+     */
+    public static BinaryScheduleReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BinaryScheduleReader(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the number of tracks.
+     *
+     * @return the number of tracks.
+     */
+    public int size() {
+        return trackOffsets.length;
+    }
+
+    /**
+     * Decodes the track with the given index.
+     *
+     * @param index the index of the track.
+     * @return the track.
+     * @throws IndexOutOfBoundsException if there is no track with the index.
+     */
+    public synchronized Track getTrack(int index) {
+        position = trackOffsets[index];
+        int n = readCount();
+        int[] starts = new int[n];
+        long start = 0;
+        for (int i = 0; i < n; i++) {
+            start += readVarint();
+            starts[i] = (int) start;
+        }
+        long[] durations = new long[n];
+        for (int i = 0; i < n; i++) {
+            durations[i] = readVarint();
+        }
+        Track track = new Track();
+        for (int i = 0; i < n; i++) {
+            String t = getTitle((int) readVarint());
+            Event e = durations[i] == 0 ? new Event(t) : new Event(t, Duration.ofSeconds(durations[i] - 1));
+            track.put(LocalTime.ofSecondOfDay(starts[i]), e);
+        }
+        return track;
+    }
+
+    /**
+     * Decodes all tracks.
+     *
+     * @return the tracks.
+     */
+    public List<Track> readAll() {
+        List<Track> tracks = new ArrayList<>(size());
+        for (int t = 0; t < size(); t++) {
+            tracks.add(getTrack(t));
+        }
+        return tracks;
+    }
+
+    /**
+     * Returns the title with the given index of the table of titles.
+     *
+     * @param index the index of the title.
+     * @return the title.
+     */
+    private String getTitle(int index) {
+        if (titles[index] == null) {
+            byte[] bytes = new byte[titleLengths[index]];
+            buffer.duplicate().position(titleOffsets[index]).get(bytes);
+            titles[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return titles[index];
+    }
+
+    /**
+     * Reads a variable length integer, which must fit into an int.
+     *
+     * @return the number.
+     * @throws ArithmeticException if the number is too large.
+     */
+    private int readCount() {
+        return Math.toIntExact(readVarint());
+    }
+
+    /**
+     * Reads a variable length integer at the current position.
+     *
+     * @return the number.
+     * @throws IndexOutOfBoundsException if the buffer ends within the number.
+     */
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get(position++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("The number is too long.");
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.agoss94.track.manager.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.Track;
+
+/**
+ * The binary schedule writer saves tracks in a compact binary format, which is
+ * read back by {@link BinaryScheduleReader} without parsing any text. All
+ * numbers are unsigned variable length integers of seven bits per byte, lowest
+ * bits first. The file consists of
+ * <ol>
+ * <li>the header of the four bytes {@code TMSC}, the version, the number of
+ * tracks and the number of titles,</li>
+ * <li>the table of the distinct titles, each as its number of UTF-8 bytes
+ * followed by the bytes, and</li>
+ * <li>every track as its number of events followed by the columns of the start
+ * times in seconds after the previous start, the durations in seconds plus one
+ * or 0 for open end events and the indices of the titles.</li>
+ * </ol>
+ * Start times and durations must be whole non-negative numbers of seconds. The
+ * tracks are checked before the first byte is written and are then streamed
+ * through a small buffer, so the file is never held in memory as a whole.
+ */
+public class BinaryScheduleWriter {
+
+    /**
+     * The first bytes of every binary schedule.
+     */
+    static final byte[] MAGIC = { 'T', 'M', 'S', 'C' };
+
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the buffer in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The bytes not yet written to the channel.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * The channel written to.
+     */
+    private WritableByteChannel channel;
+
+    /**
+     * Writes the tracks to a binary schedule file.
+     *
+     * @param outputPath the path of the output file.
+     * @param tracks     the given tracks.
+     * @throws IOException              if the file cannot be written.
+     * @throws IllegalArgumentException if a start time or a duration is no whole
+     *                                  non-negative number of seconds.
+     */
+    public void writeFile(Path outputPath, List<Track> tracks) throws IOException {
+        Map<String, Integer> indices = indexTitles(tracks);
+        try (FileChannel out = FileChannel.open(outputPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            encode(out, tracks, indices);
+        }
+    }
+
+    /**
+     * Writes the tracks as binary schedule to the given stream. The stream is not
+     * closed.
+     *
+     * @param out    the stream.
+     * @param tracks the given tracks.
+     * @throws IOException              if the stream fails.
+     * @throws IllegalArgumentException if a start time or a duration is no whole
+     *                                  non-negative number of seconds.
+     */
+    public void write(OutputStream out, List<Track> tracks) throws IOException {
+        Map<String, Integer> indices = indexTitles(tracks);
+        encode(Channels.newChannel(out), tracks, indices);
+    }
+
+    /**
+     * Checks the start times and durations of the tracks and numbers their
+     * distinct titles in the order of their first occurrence.
+     *
+     * @param tracks the tracks.
+     * @return the indices of the titles.
+     * @throws IllegalArgumentException if a start time or a duration is no whole
+     *                                  non-negative number of seconds.
+     */
+    private static Map<String, Integer> indexTitles(List<Track> tracks) {
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        for (Track track : tracks) {
+            for (Map.Entry<LocalTime, Event> entry : track.entrySet()) {
+                if (entry.getKey().getNano() != 0) {
+                    throw new IllegalArgumentException("The start must be a whole number of seconds.");
+                }
+                Event e = entry.getValue();
+                if (!e.isOpenEnd()) {
+                    // The duration is stored plus one.
+                    Math.addExact(secondsOf(e.getDuration()), 1);
+                }
+                indices.putIfAbsent(e.getTitle(), indices.size());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Encodes the tracks and writes them to the given channel.
+     *
+     * @param out     the channel.
+     * @param tracks  the tracks.
+     * @param indices the indices of the titles.
+     * @throws IOException if the channel fails.
+     */
+    private void encode(WritableByteChannel out, List<Track> tracks, Map<String, Integer> indices)
+            throws IOException {
+        channel = out;
+        buffer.clear();
+        try {
+            for (byte b : MAGIC) {
+                writeByte(b);
+            }
+            writeVarint(VERSION);
+            writeVarint(tracks.size());
+            writeVarint(indices.size());
+            for (String title : indices.keySet()) {
+                byte[] utf8 = title.getBytes(StandardCharsets.UTF_8);
+                writeVarint(utf8.length);
+                writeBytes(utf8);
+            }
+
+            for (Track track : tracks) {
+                writeVarint(track.size());
+                long previous = 0;
+                for (LocalTime start : track.keySet()) {
+                    writeVarint(start.toSecondOfDay() - previous);
+                    previous = start.toSecondOfDay();
+                }
+                for (Event e : track.values()) {
+                    writeVarint(e.isOpenEnd() ? 0 : secondsOf(e.getDuration()) + 1);
+                }
+                for (Event e : track.values()) {
+                    writeVarint(indices.get(e.getTitle()));
+                }
+            }
+            flush();
+        } finally {
+            channel = null;
+        }
+    }
+
+    /**
+     * Returns the given duration in seconds.
+     *
+     * @param duration the duration.
+     * @return the seconds of the duration.
+     * @throws IllegalArgumentException if the duration is negative or not a whole
+     *                                  number of seconds.
+     */
+    private static long secondsOf(Duration duration) {
+        if (duration.isNegative() || duration.getNano() != 0) {
+            throw new IllegalArgumentException("The duration must be a whole non-negative number of seconds.");
+        }
+        return duration.getSeconds();
+    }
+
+    /**
+     * Writes the given non-negative number as variable length integer.
+     *
+     * @param value the number.
+     * @throws IOException if the channel fails.
+     */
+    private void writeVarint(long value) throws IOException {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param b the byte.
+     * @throws IOException if the channel fails.
+     */
+    private void writeByte(byte b) throws IOException {
+        ensureCapacity(1);
+        buffer.put(b);
+    }
+
+    /**
+     * Writes the given bytes, which may be more than fit into the buffer.
+     *
+     * @param bytes the bytes.
+     * @throws IOException if the channel fails.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureCapacity(1);
+            int n = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, n);
+            offset += n;
+        }
+    }
+
+    /**
+     * Makes room for the given number of bytes by writing the buffer to the
+     * channel if necessary.
+     *
+     * @param n the number of bytes, at most the size of the buffer.
+     * @throws IOException if the channel fails.
+     */
+    private void ensureCapacity(int n) throws IOException {
+        if (buffer.remaining() < n) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffer to the channel.
+     *
+     * @throws IOException if the channel fails.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
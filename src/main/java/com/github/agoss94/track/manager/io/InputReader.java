@@ -1,37 +1,49 @@
 package com.github.agoss94.track.manager.io;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.EventTable;
 
 /**
  * Text input reader reads all Events from a text file and stores the, in a
- * collection.
+ * collection. Every line is expected to end with the duration token, which is
+ * either a number followed by {@code min} or the word {@code lightning}.
+ * Everything before the space in front of the token is the title. Lines, which
+ * do not end with such a token, are ignored. This is the same format as read
+ * by the {@link MappedInputReader}.
  */
 public class InputReader {
 
     /**
-     * Pattern matching only digits.
+     * The unit of a duration.
      */
-    private static final Pattern PATTERN_DIGITS = Pattern.compile("\\d+");
+    private static final String MIN = "min";
 
     /**
-     * Pattern for the word lightning.
+     * The token of a lightning talk.
      */
-    private static final Pattern PATTERN_LIGHTNING = Pattern.compile("lightning");
+    private static final String LIGHTNING = "lightning";
 
     /**
-     * Reads the given input file line by line. Empty lines are ignored. We assume
-     * that the duration of the event and the title is separated by a single space.
+     * The duration of a lightning talk in minutes.
+     */
+    private static final int LIGHTNING_MINUTES = 5;
+
+    /**
+     * Reads the given input file line by line. Lines without a duration are
+     * ignored.
      *
      * @param pathToFile the path to the file.
      * @return a collection of events as read from the file.
@@ -43,24 +55,210 @@ public class InputReader {
             throw new IOException("Input file is no text file.");
         }
 
-        List<String> lines = Files.readAllLines(pathToFile);
-        if (lines.isEmpty()) {
-            return Collections.emptyList();
+        try (Stream<Event> events = stream(pathToFile)) {
+            return events.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns a lazy stream of the events of the given input file. The file is
+     * read line by line while the stream is consumed, so only the current line is
+     * held in memory. The stream must be closed to close the file, for example in
+     * a try-with-resources statement. Lines without a duration are skipped.
+     *
+     * @param pathToFile the path to the file.
+     * @return a stream of the events in the order of the lines.
+     * @throws IOException if the file is no text file or cannot be opened.
+     */
+    public Stream<Event> stream(Path pathToFile) throws IOException {
+        String fileName = pathToFile.getFileName().toString();
+        if (!fileName.endsWith(".txt")) {
+            throw new IOException("Input file is no text file.");
+        }
+
+        BufferedReader reader = Files.newBufferedReader(pathToFile);
+        return stream(reader).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy stream of the events read line by line from the given
+     * reader. Lines without a duration are skipped. Errors while reading are
+     * thrown as {@link UncheckedIOException} by the stream. The reader is not
+     * closed.
+     *
+     * @param reader the reader.
+     * @return a stream of the events in the order of the lines.
+     * @throws NullPointerException if reader is {@code null}.
+     */
+    public Stream<Event> stream(BufferedReader reader) {
+        return reader.lines().map(this::parseLine).filter(Objects::nonNull);
+    }
+
+    /**
+     * Reads the given input file line by line into an event table without
+     * creating an {@link Event} for every line. Lines without a duration are
+     * ignored.
+     *
+     * @param pathToFile the path to the file.
+     * @return a table of the events in the order of the lines.
+     * @throws IOException if the file is no text file or cannot be read.
+     */
+    public EventTable readTable(Path pathToFile) throws IOException {
+        String fileName = pathToFile.getFileName().toString();
+        if (!fileName.endsWith(".txt")) {
+            throw new IOException("Input file is no text file.");
+        }
+
+        EventTable table = new EventTable();
+        try (BufferedReader reader = Files.newBufferedReader(pathToFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line, table);
+            }
         }
+        return table;
+    }
+
+    /**
+     * Reads the events from the given lines in the same format as an input file.
+     * Lines without a duration are ignored.
+     *
+     * @param lines the lines of the input.
+     * @return a list of events in the order of the lines.
+     * @throws NullPointerException if lines is {@code null}.
+     */
+    public List<Event> read(List<String> lines) {
         List<Event> events = new ArrayList<>();
         for (String line : lines) {
-            Matcher matcherDigits = PATTERN_DIGITS.matcher(line);
-            Matcher matcherLightning = PATTERN_LIGHTNING.matcher(line);
-            if (matcherDigits.find()) {
-                int min = Integer.parseInt(matcherDigits.group());
-                String title = line.substring(0, matcherDigits.start() - 1);
-                events.add(new Event(title, Duration.ofMinutes(min)));
-            } else if (matcherLightning.find()) {
-                String title = line.substring(0, matcherLightning.start() - 1);
-                events.add(new Event(title, Duration.ofMinutes(5)));
+            Event event = parseLine(line);
+            if (event != null) {
+                events.add(event);
             }
         }
         return events;
     }
 
+    /**
+     * Parses a single line of the input. The line must end with the duration
+     * token, trailing spaces and tabs are ignored.
+     *
+     * @param line the line.
+     * @return the event or {@code null} if the line contains no duration.
+     * @throws NullPointerException  if line is {@code null}.
+     * @throws NumberFormatException if the duration does not fit into an int.
+     */
+    public Event parseLine(String line) {
+        long token = parseToken(line);
+        if (token < 0) {
+            return null;
+        }
+        String title = line.substring(0, titleEnd(token));
+        return new Event(title, Duration.ofMinutes(minutes(token)));
+    }
+
+    /**
+     * Parses a single line of the input and adds its event to the given table.
+     * The title is copied from the line without creating a string.
+     *
+     * @param line  the line.
+     * @param table the table.
+     * @return {@code true} if the line contains a duration and has been added.
+     * @throws NullPointerException  if line or table is {@code null}.
+     * @throws NumberFormatException if the duration does not fit into an int.
+     */
+    public boolean parseLine(String line, EventTable table) {
+        Objects.requireNonNull(table);
+        long token = parseToken(line);
+        if (token < 0) {
+            return false;
+        }
+        table.add(line, 0, titleEnd(token), minutes(token));
+        return true;
+    }
+
+    /**
+     * Scans the line from its end for the duration token. The start of the token
+     * is returned in the upper and the duration in minutes in the lower half of
+     * the result.
+     *
+     * @param line the line.
+     * @return the start and the duration of the token or {@code -1} if the line
+     *         does not end with a token.
+     * @throws NumberFormatException if the duration does not fit into an int.
+     */
+    private static long parseToken(String line) {
+        int end = line.length();
+        while (end > 0 && isBlank(line.charAt(end - 1))) {
+            end--;
+        }
+        int token;
+        int minutes;
+        if (line.startsWith(LIGHTNING, end - LIGHTNING.length())) {
+            token = end - LIGHTNING.length();
+            minutes = LIGHTNING_MINUTES;
+        } else if (line.startsWith(MIN, end - MIN.length())) {
+            int digits = end - MIN.length();
+            token = digits;
+            while (token > 0 && isDigit(line.charAt(token - 1))) {
+                token--;
+            }
+            if (token == digits) {
+                return -1;
+            }
+            minutes = Integer.parseInt(line, token, digits, 10);
+        } else {
+            return -1;
+        }
+        if (token > 0 && line.charAt(token - 1) != ' ') {
+            // The token is the end of a word.
+            return -1;
+        }
+        return (long) token << 32 | minutes;
+    }
+
+    /**
+     * Returns the end of the title in front of the given token.
+     *
+     * @param token the token as returned by {@link #parseToken(String)}.
+     * @return the end of the title.
+     */
+    private static int titleEnd(long token) {
+        return Math.max(0, (int) (token >>> 32) - 1);
+    }
+
+    /**
+     * Returns the duration in minutes of the given token.
+     *
+     * @param token the token as returned by {@link #parseToken(String)}.
+     * @return the duration in minutes.
+     */
+    private static int minutes(long token) {
+        return (int) token;
+    }
+
+    /**
+     * Returns {@code true} if the character is an ASCII digit.
+     *
+     * @param c the character.
+     * @return {@code true} if the character is a digit.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns {@code true} if the character is a space or a tab.
+     *
+     * @param c the character.
+     * @return {@code true} if the character is blank.
+     */
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
 }
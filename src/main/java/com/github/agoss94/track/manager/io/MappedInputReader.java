@@ -0,0 +1,464 @@
+package com.github.agoss94.track.manager.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.github.agoss94.track.manager.Event;
+import com.github.agoss94.track.manager.EventTable;
+
+/**
+ * The mapped input reader reads large input files without regular expressions.
+ * The file is mapped into memory and every line is scanned from its end for the
+ * duration token, which is either a number followed by {@code min} or the word
+ * {@code lightning}. Everything before the space in front of the token is the
+ * title. Lines, which do not end with such a token, are ignored.
+ * <p>
+ * The file is expected to be encoded in UTF-8. Titles of only ASCII characters
+ * are copied into the event table byte by byte, all other titles are decoded.
+ * <p>
+ * A reader with a parallelism above one splits large files at line breaks into
+ * chunks, which are parsed by a fork join pool. The events of the chunks are
+ * merged in the order of the lines.
+ */
+public class MappedInputReader {
+
+    /**
+     * The default size of the regions of the file, which are mapped at once.
+     */
+    public static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    /**
+     * The least number of bytes parsed by a single task.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The number of chunks per thread, so threads, which are done early, can
+     * help with the remaining chunks.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The token of a duration in minutes.
+     */
+    private static final byte[] MIN = "min".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The token of a lightning talk.
+     */
+    private static final byte[] LIGHTNING = "lightning".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The duration of a lightning talk in minutes.
+     */
+    private static final int LIGHTNING_MINUTES = 5;
+
+    /**
+     * The size of the regions of the file, which are mapped at once.
+     */
+    private final int regionSize;
+
+    /**
+     * The number of threads parsing the file.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates a mapped input reader with the default region size, which parses
+     * on the calling thread.
+     */
+    public MappedInputReader() {
+        this(DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Creates a mapped input reader, which maps the given number of bytes of the
+     * file at once and parses on the calling thread. No line may be longer than a
+     * region.
+     *
+     * @param regionSize the size of the mapped regions.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public MappedInputReader(int regionSize) {
+        this(regionSize, 1);
+    }
+
+    /**
+     * Creates a mapped input reader, which maps the given number of bytes of the
+     * file at once and parses them with the given number of threads. No line may
+     * be longer than a region.
+     *
+     * @param regionSize  the size of the mapped regions.
+     * @param parallelism the number of threads.
+     * @throws IllegalArgumentException if the size or the parallelism is not
+     *                                  positive.
+     */
+    public MappedInputReader(int regionSize, int parallelism) {
+        if (regionSize < 1) {
+            throw new IllegalArgumentException("The region size must be positive.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+        this.regionSize = regionSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads the events of the given input file.
+     *
+     * @param pathToFile the path to the file.
+     * @return a collection of events in the order of the lines.
+     * @throws IOException if the file is no text file or cannot be read.
+     */
+    public Collection<Event> readFile(Path pathToFile) throws IOException {
+        return new ArrayList<>(readTable(pathToFile).asList());
+    }
+
+    /**
+     * Reads the events of the given input file into an event table.
+     *
+     * @param pathToFile the path to the file.
+     * @return a table of the events in the order of the lines.
+     * @throws IOException if the file is no text file, cannot be read or has a
+     *                     line longer than a region.
+     */
+    public EventTable readTable(Path pathToFile) throws IOException {
+        String fileName = pathToFile.getFileName().toString();
+        if (!fileName.endsWith(".txt")) {
+            throw new IOException("Input file is no text file.");
+        }
+
+        EventTable table = new EventTable();
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try (FileChannel channel = FileChannel.open(pathToFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(regionSize, size - position);
+                MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+                // A line, which is cut by the end of the region, is left to the next
+                // region.
+                int end = position + length == size ? (int) length : lineStart(region, (int) length);
+                if (end == 0) {
+                    throw new IOException("A line is longer than " + regionSize + " bytes.");
+                }
+                ByteBuffer lines = slice(region, 0, end);
+                if (pool == null) {
+                    new Parser(table).parse(lines);
+                } else {
+                    parse(pool, lines, table);
+                }
+                position += end;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Parses the lines in chunks on the given pool and adds their events to the
+     * table in the order of the lines.
+     *
+     * @param pool  the pool.
+     * @param lines the lines.
+     * @param table the table.
+     */
+    private void parse(ForkJoinPool pool, ByteBuffer lines, EventTable table) {
+        int chunks = Math.max(1, Math.min(CHUNKS_PER_THREAD * parallelism, lines.limit() / MIN_CHUNK_SIZE));
+        int[] bounds = new int[chunks + 1];
+        for (int c = 1; c < chunks; c++) {
+            int middle = (int) ((long) lines.limit() * c / chunks);
+            bounds[c] = Math.max(bounds[c - 1], middle == 0 ? 0 : lineStart(lines, middle));
+        }
+        bounds[chunks] = lines.limit();
+        EventTable[] parts = new EventTable[chunks];
+        pool.invoke(new ChunkTask(lines, bounds, parts, 0, chunks));
+        for (EventTable part : parts) {
+            table.addAll(part);
+        }
+    }
+
+    /**
+     * Returns the start of the line after the last line break before the given
+     * position or 0 if there is none.
+     *
+     * @param buffer   the buffer.
+     * @param position the position.
+     * @return the start of the line.
+     */
+    private static int lineStart(ByteBuffer buffer, int position) {
+        for (int i = position - 1; i >= 0; i--) {
+            byte b = buffer.get(i);
+            if (b == '\n' || b == '\r') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bytes from {@code start} inclusive to {@code end} exclusive of
+     * the buffer as a buffer of their own.
+     *
+     * @param buffer the buffer.
+     * @param start  the start.
+     * @param end    the end.
+     * @return a buffer sharing the bytes.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(end).position(start);
+        return slice.slice();
+    }
+
+    /**
+     * Parses the chunks from {@code from} inclusive to {@code to} exclusive by
+     * splitting them in halves until a single chunk is left.
+     */
+    private static class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The lines of all chunks.
+         */
+        private final transient ByteBuffer lines;
+
+        /**
+         * The chunk {@code c} starts at {@code bounds[c]} and ends at
+         * {@code bounds[c + 1]}.
+         */
+        private final int[] bounds;
+
+        /**
+         * The tables of the parsed chunks.
+         */
+        private final EventTable[] parts;
+
+        /**
+         * The first chunk.
+         */
+        private final int from;
+
+        /**
+         * The chunk after the last chunk.
+         */
+        private final int to;
+
+        /**
+         * Creates a task parsing the given chunks.
+         *
+         * @param lines  the lines of all chunks.
+         * @param bounds the bounds of the chunks.
+         * @param parts  the tables of the parsed chunks.
+         * @param from   the first chunk.
+         * @param to     the chunk after the last chunk.
+         */
+        ChunkTask(ByteBuffer lines, int[] bounds, EventTable[] parts, int from, int to) {
+            this.lines = lines;
+            this.bounds = bounds;
+            this.parts = parts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                parts[from] = new EventTable();
+                new Parser(parts[from]).parse(slice(lines, bounds[from], bounds[to]));
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(lines, bounds, parts, from, middle),
+                        new ChunkTask(lines, bounds, parts, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Parses the lines of mapped regions and adds their events to a table.
+     */
+    private static class Parser {
+
+        /**
+         * The table, to which the events are added.
+         */
+        private final EventTable table;
+
+        /**
+         * The buffer for the characters of an ASCII title.
+         */
+        private char[] chars = new char[128];
+
+        /**
+         * Creates a parser adding to the given table.
+         *
+         * @param table the table.
+         */
+        Parser(EventTable table) {
+            this.table = table;
+        }
+
+        /**
+         * Parses all lines of the buffer. The last line may end without a line
+         * break.
+         *
+         * @param lines the lines.
+         */
+        void parse(ByteBuffer lines) {
+            int limit = lines.limit();
+            int start = 0;
+            for (int i = 0; i < limit; i++) {
+                byte b = lines.get(i);
+                if (b == '\n' || b == '\r') {
+                    parseLine(lines, start, i);
+                    start = i + 1;
+                }
+            }
+            if (start < limit) {
+                parseLine(lines, start, limit);
+            }
+        }
+
+        /**
+         * Parses the line from {@code start} inclusive to {@code end} exclusive.
+         *
+         * @param region the region holding the line.
+         * @param start  the start of the line.
+         * @param end    the end of the line.
+         */
+        private void parseLine(ByteBuffer region, int start, int end) {
+            while (end > start && isBlank(region.get(end - 1))) {
+                end--;
+            }
+            int token;
+            int minutes;
+            if (endsWith(region, start, end, LIGHTNING)) {
+                token = end - LIGHTNING.length;
+                minutes = LIGHTNING_MINUTES;
+            } else if (endsWith(region, start, end, MIN)) {
+                int digits = end - MIN.length;
+                token = digits;
+                while (token > start && isDigit(region.get(token - 1))) {
+                    token--;
+                }
+                if (token == digits) {
+                    return;
+                }
+                minutes = parseMinutes(region, token, digits);
+            } else {
+                return;
+            }
+            if (token > start && region.get(token - 1) != ' ') {
+                // The token is the end of a word.
+                return;
+            }
+            addTitle(region, start, Math.max(start, token - 1), minutes);
+        }
+
+        /**
+         * Adds the event with the title from {@code start} inclusive to {@code end}
+         * exclusive to the table.
+         *
+         * @param region  the region holding the title.
+         * @param start   the start of the title.
+         * @param end     the end of the title.
+         * @param minutes the duration in minutes.
+         */
+        private void addTitle(ByteBuffer region, int start, int end, int minutes) {
+            int length = end - start;
+            if (chars.length < length) {
+                chars = Arrays.copyOf(chars, Math.max(length, 2 * chars.length));
+            }
+            for (int i = 0; i < length; i++) {
+                byte b = region.get(start + i);
+                if (b < 0) {
+                    // Not ASCII, decode the whole title.
+                    byte[] bytes = new byte[length];
+                    region.duplicate().position(start).get(bytes);
+                    table.add(new String(bytes, StandardCharsets.UTF_8), minutes);
+                    return;
+                }
+                chars[i] = (char) b;
+            }
+            table.add(chars, 0, length, minutes);
+        }
+
+        /**
+         * Parses the digits from {@code start} inclusive to {@code end} exclusive.
+         *
+         * @param region the region holding the digits.
+         * @param start  the first digit.
+         * @param end    the end of the digits.
+         * @return the number.
+         * @throws NumberFormatException if the number does not fit into an int.
+         */
+        private static int parseMinutes(ByteBuffer region, int start, int end) {
+            long minutes = 0;
+            for (int i = start; i < end; i++) {
+                minutes = 10 * minutes + region.get(i) - '0';
+                if (minutes > Integer.MAX_VALUE) {
+                    throw new NumberFormatException("The duration is too long.");
+                }
+            }
+            return (int) minutes;
+        }
+
+        /**
+         * Returns {@code true} if the range from {@code start} inclusive to
+         * {@code end} exclusive ends with the given token.
+         *
+         * @param region the region.
+         * @param start  the start of the range.
+         * @param end    the end of the range.
+         * @param token  the token.
+         * @return {@code true} if the range ends with the token.
+         */
+        private static boolean endsWith(ByteBuffer region, int start, int end, byte[] token) {
+            if (end - start < token.length) {
+                return false;
+            }
+            for (int i = 0; i < token.length; i++) {
+                if (region.get(end - token.length + i) != token[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns {@code true} if the byte is an ASCII digit.
+         *
+         * @param b the byte.
+         * @return {@code true} if the byte is a digit.
+         */
+        private static boolean isDigit(byte b) {
+            return b >= '0' && b <= '9';
+        }
+
+        /**
+         * Returns {@code true} if the byte is a space or a tab.
+         *
+         * @param b the byte.
+         * @return {@code true} if the byte is blank.
+         */
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t';
+        }
+    }
+}
@@ -1,19 +1,50 @@
 package com.github.agoss94.track.manager.io;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map.Entry;
 
+import com.github.agoss94.track.manager.Event;
 import com.github.agoss94.track.manager.Track;
 
 /**
  * Output writer writes tracks to a text file.
+ * <p>
+ * The lines are formatted by hand into a reusable line buffer, so no strings
+ * are created per event. A file is written through a reusable byte buffer
+ * straight to its channel. The output is the same as the one of
+ * {@link Track#toString()} for every track. An output writer must not be shared
+ * between threads.
  */
 public class OutputWriter {
 
+    /**
+     * The size of the byte buffer.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The line separator, which is used by {@link Track#toString()}.
+     */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * The line, which is formatted right now.
+     */
+    private final StringBuilder line = new StringBuilder(128);
+
+    /**
+     * The buffer of the bytes, which are written to a file.
+     */
+    private ByteBuffer buffer;
+
     /**
      * Writes the different tracks to an output file.
      *
@@ -22,14 +53,137 @@ public class OutputWriter {
      * @throws IOException if the path is invalid.
      */
     public void writeFile(Path outputPath, List<Track> tracks) throws IOException {
-        // Write output
-        BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8);
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        buffer.clear();
+        line.setLength(0);
+        try (FileChannel channel = FileChannel.open(outputPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < tracks.size(); i++) {
+                appendHeader(i + 1);
+                encode(channel);
+                for (Entry<LocalTime, Event> entry : tracks.get(i).entrySet()) {
+                    appendEntry(entry.getKey(), entry.getValue());
+                    encode(channel);
+                }
+                line.append(LINE_SEPARATOR);
+                encode(channel);
+            }
+            flush(channel);
+        }
+    }
+
+    /**
+     * Writes the different tracks to the given writer in the same format as an
+     * output file. The writer is not closed.
+     *
+     * @param writer the writer.
+     * @param tracks the given tracks
+     * @throws IOException if the writer fails.
+     */
+    public void write(Writer writer, List<Track> tracks) throws IOException {
+        line.setLength(0);
         for (int i = 0; i < tracks.size(); i++) {
-            writer.append("Track " + (i + 1) + ":");
-            writer.newLine();
-            writer.append(tracks.get(i).toString());
-            writer.newLine();
+            appendHeader(i + 1);
+            for (Entry<LocalTime, Event> entry : tracks.get(i).entrySet()) {
+                appendEntry(entry.getKey(), entry.getValue());
+            }
+            line.append(LINE_SEPARATOR);
+            writer.append(line);
+            line.setLength(0);
+        }
+    }
+
+    /**
+     * Appends the header of the track with the given number to the line.
+     *
+     * @param number the number of the track.
+     */
+    private void appendHeader(int number) {
+        line.append("Track ").append(number).append(':').append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the line of the given event like {@code "09:00 Talk 60min \n"} to the
+     * line buffer.
+     *
+     * @param start the start of the event.
+     * @param e     the event.
+     */
+    private void appendEntry(LocalTime start, Event e) {
+        if (start.getSecond() == 0 && start.getNano() == 0) {
+            appendTwoDigits(start.getHour());
+            line.append(':');
+            appendTwoDigits(start.getMinute());
+        } else {
+            line.append(start);
+        }
+        line.append(' ').append(e.getTitle());
+        if (!e.isOpenEnd()) {
+            line.append(' ').append(e.getDuration().toMinutes()).append("min");
+        }
+        line.append(' ').append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the given number with a leading zero to the line.
+     *
+     * @param value a number from 0 to 99.
+     */
+    private void appendTwoDigits(int value) {
+        line.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Encodes the line buffer in UTF-8 into the byte buffer, which is written to
+     * the channel whenever it is full, and empties the line buffer.
+     *
+     * @param channel the channel.
+     * @throws IOException if the line holds an unpaired surrogate or the channel
+     *                     fails.
+     */
+    private void encode(FileChannel channel) throws IOException {
+        for (int i = 0; i < line.length(); i++) {
+            if (buffer.remaining() < 4) {
+                flush(channel);
+            }
+            char c = line.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == line.length()
+                        || !Character.isLowSurrogate(line.charAt(i + 1))) {
+                    throw new MalformedInputException(1);
+                }
+                int codePoint = Character.toCodePoint(c, line.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        line.setLength(0);
+    }
+
+    /**
+     * Writes the content of the byte buffer to the channel and empties it.
+     *
+     * @param channel the channel.
+     * @throws IOException if the channel fails.
+     */
+    private void flush(FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
         }
-        writer.close();
+        buffer.clear();
     }
 }
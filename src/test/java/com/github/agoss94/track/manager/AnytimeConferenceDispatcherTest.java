@@ -0,0 +1,80 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.AnytimeConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.Deadline;
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalDispatcher;
+
+public class AnytimeConferenceDispatcherTest {
+
+    @Test
+    void throwsNullPointerForNullArguments() {
+        assertThrows(NullPointerException.class,
+                () -> new AnytimeConferenceDispatcher(null, Deadline.none()));
+        assertThrows(NullPointerException.class,
+                () -> new AnytimeConferenceDispatcher(new OptimalConferenceDispatcher(), null));
+    }
+
+    @Test
+    void expiredDeadlineFallsBackToLazyDispatcher() {
+        List<Event> events = events(30, new Random(1));
+        Deadline deadline = Deadline.after(Duration.ZERO);
+        assertTrue(deadline.isExpired());
+        Dispatcher dispatcher = new AnytimeConferenceDispatcher(new OptimalConferenceDispatcher(
+                (start, limit) -> new OptimalDispatcher(start, limit, 1, deadline)), deadline);
+        assertEquals(new LazyConferenceDispatcher().dispatch(events), dispatcher.dispatch(events));
+    }
+
+    @Test
+    void exactDispatcherReturnsWithinBudget() {
+        // Far too many events for the subset construction.
+        List<Event> events = events(60, new Random(2));
+        Deadline deadline = Deadline.after(Duration.ofMillis(200));
+        Dispatcher dispatcher = new AnytimeConferenceDispatcher(new OptimalConferenceDispatcher(
+                (start, limit) -> new OptimalDispatcher(start, limit, 1, deadline)), deadline);
+        Track track = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> dispatcher.dispatch(events));
+        assertEquals("Lunch", track.get(LocalTime.of(12, 0)).getTitle());
+        assertFalse(Deadline.none().isExpired());
+    }
+
+    @Test
+    void subsetConstructionReturnsWithinBudget() {
+        // Fractions of minutes are searched by the subset construction, a single
+        // step of which takes far longer than the budget.
+        List<Event> events = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(13 + random.nextInt(50)).plusSeconds(30)));
+        }
+        Deadline deadline = Deadline.after(Duration.ofMillis(100));
+        Dispatcher dispatcher = new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3), 2, deadline);
+        // Without the checks within a step the construction takes about 20s.
+        Track track = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> dispatcher.dispatch(events));
+        assertTrue(deadline.isExpired());
+        assertFalse(track.end().isAfter(LocalTime.of(12, 0)));
+    }
+
+    private List<Event> events(int n, Random random) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(13 + random.nextInt(50))));
+        }
+        return events;
+    }
+}
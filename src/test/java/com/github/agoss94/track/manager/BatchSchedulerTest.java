@@ -0,0 +1,70 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
+
+public class BatchSchedulerTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void workersMustBePositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchScheduler(LazyConferenceDispatcher::new, 0, System.out));
+    }
+
+    @Test
+    void directoryContainsInputsWithoutTimetables() throws IOException {
+        copyInputs();
+        Files.writeString(folder.resolve("Conference1-timetable.txt"), "");
+        Files.writeString(folder.resolve("Notes.md"), "");
+        assertEquals(List.of(folder.resolve("Conference1.txt"), folder.resolve("Conference2.txt"),
+                folder.resolve("Other.txt")), BatchScheduler.resolve(folder.toString()));
+    }
+
+    @Test
+    void globMatchesFileNames() throws IOException {
+        copyInputs();
+        assertEquals(List.of(folder.resolve("Conference1.txt"), folder.resolve("Conference2.txt")),
+                BatchScheduler.resolve(folder.resolve("Conference*.txt").toString()));
+    }
+
+    @Test
+    void allFilesArePlanned() throws IOException {
+        copyInputs();
+        Files.writeString(folder.resolve("Broken.txt"), "Talk 300min");
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        BatchScheduler scheduler = new BatchScheduler(LazyConferenceDispatcher::new, 2, new PrintStream(report));
+        assertEquals(1, scheduler.run(BatchScheduler.resolve(folder.toString())));
+        assertTrue(Files.exists(folder.resolve("Conference1-timetable.txt")));
+        assertTrue(Files.exists(folder.resolve("Conference2-timetable.txt")));
+        assertTrue(Files.exists(folder.resolve("Other-timetable.txt")));
+        assertTrue(report.toString().contains("4 files"));
+    }
+
+    private void copyInputs() throws IOException {
+        Files.copy(RESOURCES.resolve("Conference.txt"), folder.resolve("Conference1.txt"));
+        Files.copy(RESOURCES.resolve("Conference2.txt"), folder.resolve("Conference2.txt"));
+        Files.copy(RESOURCES.resolve("Conference3.txt"), folder.resolve("Other.txt"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.BinPackingConferenceDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class BinPackingConferenceDispatcherTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    private final BinPackingConferenceDispatcher dispatcher = new BinPackingConferenceDispatcher();
+
+    @Test
+    void throwsNullPointerForNullInput() {
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatchAll(null));
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionForToLongEvents() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatchAll(Set.of(new Event("Talk", Duration.ofHours(5)))));
+    }
+
+    @Test
+    void emptyCollectionHasNoTracks() {
+        assertTrue(dispatcher.dispatchAll(List.of()).isEmpty());
+        assertEquals(0, dispatcher.lowerBound(List.of()));
+    }
+
+    @Test
+    void allEventsAreDispatchedOnce() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt", "Conference3.txt")) {
+            Collection<Event> events = reader.readFile(RESOURCES.resolve(file));
+            List<Track> tracks = dispatcher.dispatchAll(events);
+            List<Event> dispatched = new ArrayList<>();
+            for (Track track : tracks) {
+                assertEquals("Lunch", track.get(LocalTime.of(12, 0)).getTitle());
+                track.values().stream().filter(e -> !e.isOpenEnd() && !"Lunch".equals(e.getTitle()))
+                        .forEach(dispatched::add);
+            }
+            assertEquals(events.size(), dispatched.size());
+            assertTrue(dispatched.containsAll(events));
+            assertTrue(tracks.size() >= dispatcher.lowerBound(events));
+        }
+    }
+
+    @Test
+    void lowerBoundCountsLargeEvents() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(new Event("Long" + i, Duration.ofMinutes(200)));
+            events.add(new Event("Medium" + i, Duration.ofMinutes(150)));
+        }
+        events.add(new Event("Medium", Duration.ofMinutes(150)));
+        // Three tracks for the long events, one more for the last medium event.
+        assertEquals(4, dispatcher.lowerBound(events));
+        assertEquals(4, dispatcher.dispatchAll(events).size());
+    }
+
+    @Test
+    void tableIsDispatchedLikeCollection() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt", "Conference3.txt")) {
+            Path pathToFile = RESOURCES.resolve(file);
+            assertEquals(dispatcher.dispatchAll(reader.readFile(pathToFile)),
+                    dispatcher.dispatchTable(reader.readTable(pathToFile)));
+        }
+        EventTable table = new EventTable();
+        table.add("Talk", 300);
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatchTable(table));
+    }
+}
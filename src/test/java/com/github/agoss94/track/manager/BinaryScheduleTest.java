@@ -0,0 +1,137 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.agoss94.track.manager.dispatcher.BinPackingConferenceDispatcher;
+import com.github.agoss94.track.manager.io.BinaryScheduleReader;
+import com.github.agoss94.track.manager.io.BinaryScheduleWriter;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class BinaryScheduleTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void conferenceIsReloaded() throws IOException {
+        Path pathToFile = RESOURCES.resolve("Conference3.txt");
+        List<Track> tracks = new BinPackingConferenceDispatcher().dispatchAll(new InputReader().readFile(pathToFile));
+        Path output = directory.resolve("Conference3-timetable.bin");
+        new BinaryScheduleWriter().writeFile(output, tracks);
+        BinaryScheduleReader reader = BinaryScheduleReader.open(output);
+        assertEquals(tracks.size(), reader.size());
+        assertEquals(tracks, reader.readAll());
+        assertEquals(tracks.get(1), reader.getTrack(1));
+    }
+
+    @Test
+    void keepsSecondsOpenEndAndUnicode() throws IOException {
+        Track track = new Track();
+        track.put(LocalTime.of(0, 0), new Event("Frühstück ☕", Duration.ZERO));
+        track.put(LocalTime.of(9, 0, 30), new Event("Seconds", Duration.ofSeconds(90)));
+        track.put(LocalTime.of(23, 0), new Event("Overnight", Duration.ofHours(3)));
+        List<Track> tracks = List.of(track, new Track(), track);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryScheduleWriter().write(out, tracks);
+        assertEquals(tracks, new BinaryScheduleReader(ByteBuffer.wrap(out.toByteArray())).readAll());
+
+        Track open = new Track();
+        open.put(LocalTime.of(17, 0), new Event("Networking Event"));
+        out.reset();
+        new BinaryScheduleWriter().write(out, List.of(open));
+        assertEquals(List.of(open), new BinaryScheduleReader(ByteBuffer.wrap(out.toByteArray())).readAll());
+    }
+
+    @Test
+    void rejectsInvalidSchedules() throws IOException {
+        Track track = new Track();
+        track.put(LocalTime.of(9, 0), new Event("Talk", Duration.ofMinutes(60)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryScheduleWriter().write(out, List.of(track));
+        byte[] bytes = out.toByteArray();
+        for (int n = 0; n < bytes.length; n++) {
+            ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(bytes, n));
+            assertThrows(IOException.class, () -> new BinaryScheduleReader(truncated));
+        }
+        Files.writeString(directory.resolve("Text.bin"), "Track 1:");
+        assertThrows(IOException.class, () -> BinaryScheduleReader.open(directory.resolve("Text.bin")));
+
+        Track nanos = new Track();
+        nanos.put(LocalTime.of(9, 0, 0, 1), new Event("Talk", Duration.ofMinutes(60)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BinaryScheduleWriter().write(new ByteArrayOutputStream(), List.of(nanos)));
+    }
+
+    /**
+     * Returns a binary schedule of a single track of the given columns, whose
+     * events all have the title {@code Talk}.
+     */
+    private static ByteBuffer schedule(int... columns) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] { 'T', 'M', 'S', 'C', 1, 1, 1, 4, 'T', 'a', 'l', 'k' });
+        out.write(columns.length / 3);
+        for (int value : columns) {
+            for (; (value & ~0x7F) != 0; value >>>= 7) {
+                out.write(value & 0x7F | 0x80);
+            }
+            out.write(value);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @Test
+    void rejectsCorruptTracksWhenOpened() throws IOException {
+        assertEquals(Duration.ofMinutes(60),
+                new BinaryScheduleReader(schedule(32_400, 3_600, 3_601, 61, 0, 0)).getTrack(0).get(LocalTime.of(9, 0))
+                        .getDuration());
+        // Starts at or after midnight.
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(86_400, 61, 0)));
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(86_000, 400, 61, 61, 0, 0)));
+        // Overlapping events.
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(32_400, 1_800, 3_601, 61, 0, 0)));
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(32_400, 0, 61, 61, 0, 0)));
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(32_400, 3_600, 0, 61, 0, 0)));
+        // Unknown title.
+        assertThrows(IOException.class, () -> new BinaryScheduleReader(schedule(32_400, 61, 1)));
+    }
+
+    @Test
+    void streamsSchedulesLargerThanItsBuffer() throws IOException {
+        List<Track> tracks = new ArrayList<>();
+        String title = "A".repeat(100_000);
+        for (int t = 0; t < 2_000; t++) {
+            Track track = new Track();
+            track.put(LocalTime.of(9, 0), new Event("Talk " + t, Duration.ofMinutes(45)));
+            track.put(LocalTime.of(10, 0), new Event(title, Duration.ofMinutes(30)));
+            tracks.add(track);
+        }
+        tracks.get(0).put(LocalTime.of(11, 0), new Event("B".repeat(200_000), Duration.ofMinutes(5)));
+        Path output = directory.resolve("Large.bin");
+        new BinaryScheduleWriter().writeFile(output, tracks);
+        assertEquals(tracks, BinaryScheduleReader.open(output).readAll());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryScheduleWriter().write(out, tracks);
+        assertEquals(Files.size(output), out.size());
+    }
+}
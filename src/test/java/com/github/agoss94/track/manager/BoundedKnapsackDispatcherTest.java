@@ -0,0 +1,114 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.BoundedKnapsackDispatcher;
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class BoundedKnapsackDispatcherTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    private Dispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        dispatcher = new BoundedKnapsackDispatcher(LocalTime.of(9, 0), Duration.ofHours(3));
+    }
+
+    @Test
+    void throwsNullpointerIfEventsIsNull() {
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatch(null));
+    }
+
+    @Test
+    void emptyCollectionReturnsthrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(Collections.emptySet()));
+    }
+
+    @Test
+    void eventSetWithoutSolutionThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatch(Set.of(new Event("Talk1", Duration.ofHours(4)))));
+    }
+
+    @Test
+    void firstEventsOfEachDurationAreChosen() {
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(45));
+        Event talk2 = new Event("Talk2", Duration.ofHours(1));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(45));
+        Event talk4 = new Event("Talk4", Duration.ofHours(1));
+        Event talk5 = new Event("Talk5", Duration.ofMinutes(45));
+        List<Event> events = List.of(talk1, talk2, talk3, talk4, talk5);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        expected.put(LocalTime.of(9, 45), talk2);
+        expected.put(LocalTime.of(10, 45), talk4);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void noExactSolution() {
+        Event talk1 = new Event("Talk1", Duration.ofHours(2));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(45));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(90));
+        List<Event> events = List.of(talk1, talk2, talk3);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        expected.put(LocalTime.of(11, 0), talk2);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void sameFillAsSubsetSumDispatcher() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt")) {
+            Collection<Event> events = reader.readFile(RESOURCES.resolve(file));
+            for (Duration limit : List.of(Duration.ofHours(3), Duration.ofHours(4))) {
+                Track expected = new SubsetSumDispatcher(LocalTime.of(9, 0), limit).dispatch(events);
+                Track actual = new BoundedKnapsackDispatcher(LocalTime.of(9, 0), limit).dispatch(events);
+                assertEquals(expected.end(), actual.end());
+            }
+        }
+    }
+
+    @Test
+    void sameFillAsSubsetSumDispatcherForFewDurations() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                events.add(new Event("Talk" + i, Duration.ofMinutes(25 + 20 * random.nextInt(4))));
+            }
+            Duration limit = Duration.ofMinutes(60 + random.nextInt(400));
+            Track expected = new SubsetSumDispatcher(LocalTime.MIN, limit).dispatch(events);
+            Track actual = new BoundedKnapsackDispatcher(LocalTime.MIN, limit).dispatch(events);
+            assertEquals(expected.end(), actual.end());
+        }
+    }
+}
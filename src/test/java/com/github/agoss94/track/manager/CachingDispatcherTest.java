@@ -0,0 +1,118 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.CachingDispatcher;
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class CachingDispatcherTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    /**
+     * Counts the calls of the optimal conference dispatcher.
+     */
+    private static class CountingDispatcher implements Dispatcher {
+
+        private final Dispatcher dispatcher = new OptimalConferenceDispatcher();
+
+        private int calls;
+
+        @Override
+        public Track dispatch(Collection<Event> events) {
+            calls++;
+            return dispatcher.dispatch(events);
+        }
+
+        @Override
+        public List<Track> dispatchAll(Collection<Event> events) {
+            calls++;
+            return dispatcher.dispatchAll(events);
+        }
+    }
+
+    private static List<Event> renamed(List<Event> events, String prefix) {
+        return events.stream().map(e -> new Event(prefix + e.getTitle(), e.getDuration()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void throwsExceptionsForInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new CachingDispatcher(null));
+        assertThrows(IllegalArgumentException.class, () -> new CachingDispatcher(new CountingDispatcher(), 0));
+        assertThrows(NullPointerException.class, () -> new CachingDispatcher(new CountingDispatcher()).dispatch(null));
+    }
+
+    @Test
+    void sameDurationsAreAnsweredFromCache() throws IOException {
+        List<Event> events = new ArrayList<>(new InputReader().readFile(RESOURCES.resolve("Conference.txt")));
+        CountingDispatcher counting = new CountingDispatcher();
+        CachingDispatcher dispatcher = new CachingDispatcher(counting);
+        List<Track> expected = dispatcher.dispatchAll(events);
+
+        List<Event> other = renamed(events, "New ");
+        Collections.reverse(other);
+        List<Track> tracks = dispatcher.dispatchAll(other);
+        assertEquals(1, counting.calls);
+        assertEquals(1, dispatcher.getHits());
+        assertEquals(1, dispatcher.getMisses());
+        assertEquals(expected.size(), tracks.size());
+        List<Event> dispatched = new ArrayList<>();
+        for (int t = 0; t < tracks.size(); t++) {
+            assertEquals(expected.get(t).keySet(), tracks.get(t).keySet());
+            assertEquals("Lunch", tracks.get(t).get(LocalTime.of(12, 0)).getTitle());
+            for (LocalTime start : expected.get(t).keySet()) {
+                assertEquals(expected.get(t).get(start).getDuration(), tracks.get(t).get(start).getDuration());
+            }
+            tracks.get(t).values().stream().filter(e -> e.getTitle().startsWith("New ")).forEach(dispatched::add);
+        }
+        assertEquals(other.size(), dispatched.size());
+        assertEquals(other.stream().map(Event::getTitle).sorted().collect(Collectors.toList()),
+                dispatched.stream().map(Event::getTitle).sorted().collect(Collectors.toList()));
+
+        // A single track is cached on its own.
+        dispatcher.dispatch(events);
+        dispatcher.dispatch(other);
+        assertEquals(2, counting.calls);
+        assertEquals(2, dispatcher.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        CountingDispatcher counting = new CountingDispatcher();
+        CachingDispatcher dispatcher = new CachingDispatcher(counting, 2);
+        List<Event> a = List.of(new Event("A", Duration.ofMinutes(30)));
+        List<Event> b = List.of(new Event("B", Duration.ofMinutes(45)));
+        List<Event> c = List.of(new Event("C", Duration.ofMinutes(60)));
+        dispatcher.dispatch(a);
+        dispatcher.dispatch(b);
+        dispatcher.dispatch(a);
+        dispatcher.dispatch(c);
+        assertEquals(3, counting.calls);
+        dispatcher.dispatch(a);
+        assertEquals(3, counting.calls);
+        dispatcher.dispatch(b);
+        assertEquals(4, counting.calls);
+        assertEquals(2, dispatcher.getHits());
+        assertEquals(4, dispatcher.getMisses());
+    }
+}
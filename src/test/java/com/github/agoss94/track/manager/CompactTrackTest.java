@@ -0,0 +1,40 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactTrackTest extends TrackTest {
+
+    @Override
+    Track createTrack() {
+        return new CompactTrack();
+    }
+
+    @Test
+    void entriesCanBeRemoved() {
+        Track track = new CompactTrack();
+        Event talk1 = new Event("Talk1", Duration.ofHours(1));
+        Event talk2 = new Event("Talk2", Duration.ofHours(1));
+        track.put(LocalTime.of(9, 0), talk1);
+        track.put(LocalTime.of(10, 0), talk2);
+        track.values().removeIf(talk1::equals);
+        assertEquals(List.of(talk2), List.copyOf(track.values()));
+        assertNull(track.remove(LocalTime.of(9, 0)));
+        assertEquals(talk2, track.remove(LocalTime.of(10, 0)));
+        assertEquals(LocalTime.MIN, track.end());
+    }
+
+    @Test
+    void eventMustEndOnTheSameDay() {
+        Track track = new CompactTrack();
+        assertThrows(IllegalArgumentException.class,
+                () -> track.put(LocalTime.of(23, 0), new Event("Talk", Duration.ofHours(2))));
+    }
+}
@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
 import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.JointConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
 
 public class ConferenceDispatcherTest {
 
@@ -44,4 +48,31 @@ public class ConferenceDispatcherTest {
         assertEquals("Networking Event", networking.getTitle());
     }
 
+    @Test
+    void dispatchAllKeepsEqualEvents() {
+        List<Event> events = Collections.nCopies(20, new Event("Talk", Duration.ofMinutes(60)));
+        for (Dispatcher dispatcher : List.of(new OptimalConferenceDispatcher(SubsetSumDispatcher::new),
+                new JointConferenceDispatcher())) {
+            List<Track> tracks = dispatcher.dispatchAll(events);
+            assertEquals(3, tracks.size());
+            assertEquals(20, dispatched(tracks));
+        }
+    }
+
+    @Test
+    void dispatchAllLeavesMorningEmptyForLongEvents() {
+        List<Event> events = List.of(new Event("Talk1", Duration.ofMinutes(200)),
+                new Event("Talk2", Duration.ofMinutes(210)));
+        Dispatcher dispatcher = new OptimalConferenceDispatcher(SubsetSumDispatcher::new);
+        List<Track> tracks = dispatcher.dispatchAll(events);
+        assertEquals(2, tracks.size());
+        assertEquals("Talk2", tracks.get(0).get(LocalTime.of(13, 0)).getTitle());
+        assertEquals("Talk1", tracks.get(1).get(LocalTime.of(13, 0)).getTitle());
+    }
+
+    private long dispatched(List<Track> tracks) {
+        List<Event> all = new ArrayList<>();
+        tracks.forEach(track -> all.addAll(track.values()));
+        return all.stream().filter(e -> e.getTitle().equals("Talk")).count();
+    }
 }
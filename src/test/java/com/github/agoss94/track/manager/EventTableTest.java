@@ -0,0 +1,106 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.CachingDispatcher;
+import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class EventTableTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    @Test
+    void emptyTable() {
+        EventTable table = new EventTable(0);
+        assertTrue(table.isEmpty());
+        assertEquals(List.of(), table.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getTitle(0));
+    }
+
+    @Test
+    void storesEventsByTheirId() {
+        EventTable table = new EventTable(1);
+        List<Event> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Event e = new Event("Talk" + i, Duration.ofMinutes(i % 240));
+            assertEquals(i, table.add(e));
+            expected.add(e);
+        }
+        assertEquals(1000, table.size());
+        assertEquals("Talk42", table.getTitle(42));
+        assertEquals(42, table.getMinutes(42));
+        assertEquals(expected, table.asList());
+        assertArrayEquals(expected.stream().mapToInt(e -> (int) e.getDuration().toMinutes()).toArray(),
+                table.minutes());
+    }
+
+    @Test
+    void addAllAppendsInOrder() {
+        EventTable table = new EventTable();
+        table.add("Talk1", 30);
+        EventTable other = new EventTable(0);
+        other.add("Talk2", 45);
+        other.add("Talk3", 60);
+        table.addAll(other);
+        table.addAll(table);
+        assertEquals(List.of("Talk1", "Talk2", "Talk3", "Talk1", "Talk2", "Talk3"),
+                table.asList().stream().map(Event::getTitle).collect(Collectors.toList()));
+        assertArrayEquals(new int[] { 30, 45, 60, 30, 45, 60 }, table.minutes());
+    }
+
+    @Test
+    void addsTitleFromRange() {
+        EventTable table = new EventTable();
+        table.add(new StringBuilder("Lua for the Masses 30min"), 0, 18, 30);
+        table.add("", 5);
+        assertEquals(new Event("Lua for the Masses", Duration.ofMinutes(30)), table.getEvent(0));
+        assertEquals(new Event("", Duration.ofMinutes(5)), table.getEvent(1));
+    }
+
+    @Test
+    void rejectsInvalidEvents() {
+        EventTable table = new EventTable();
+        assertThrows(IllegalArgumentException.class, () -> table.add(new Event("Talk")));
+        assertThrows(IllegalArgumentException.class, () -> table.add(new Event("Talk", Duration.ofSeconds(90))));
+        assertThrows(IllegalArgumentException.class, () -> table.add("Talk", -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.add("Talk", 2, 5, 30));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void hashCodeMatchesObjectsHash() {
+        Event talk = new Event("Talk", Duration.ofMinutes(30));
+        Event open = new Event("Talk");
+        assertEquals(Objects.hash(talk.getDuration(), talk.getTitle()), talk.hashCode());
+        assertEquals(Objects.hash(null, open.getTitle()), open.hashCode());
+    }
+
+    @Test
+    void everyDispatcherDispatchesTables() throws IOException {
+        EventTable table = new InputReader().readTable(RESOURCES.resolve("Conference.txt"));
+        List<Event> events = List.copyOf(table.asList());
+        assertEquals(new LazyConferenceDispatcher().dispatchAll(events),
+                new LazyConferenceDispatcher().dispatchTable(table));
+        assertEquals(new OptimalConferenceDispatcher().dispatchAll(events),
+                new CachingDispatcher(new OptimalConferenceDispatcher()).dispatchTable(table));
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.BinPackingConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.ExactConferenceDispatcher;
+
+public class ExactConferenceDispatcherTest {
+
+    private final ExactConferenceDispatcher dispatcher = new ExactConferenceDispatcher();
+
+    @Test
+    void throwsNullPointerForNullInput() {
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatchAll(null));
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionForToLongEvents() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatchAll(Set.of(new Event("Talk", Duration.ofHours(5)))));
+    }
+
+    @Test
+    void findsFewerTracksThanBestFit() {
+        List<Event> events = new ArrayList<>();
+        for (int minutes : new int[] { 170, 150, 120, 120, 70, 60, 60, 45, 30 }) {
+            events.add(new Event("Talk" + events.size(), Duration.ofMinutes(minutes)));
+        }
+        assertEquals(3, new BinPackingConferenceDispatcher().dispatchAll(events).size());
+        List<Track> tracks = dispatcher.dispatchAll(events);
+        assertTrue(dispatcher.isProvenOptimal());
+        assertEquals(2, tracks.size());
+    }
+
+    @Test
+    void hundredsOfTalks() {
+        Random random = new Random(7);
+        List<Event> events = new ArrayList<>();
+        int[] minutes = { 5, 30, 45, 60 };
+        for (int i = 0; i < 400; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(minutes[random.nextInt(minutes.length)])));
+        }
+        List<Track> tracks = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> dispatcher.dispatchAll(events));
+        assertEquals(new BinPackingConferenceDispatcher().lowerBound(events), tracks.size());
+        assertTrue(dispatcher.isProvenOptimal());
+    }
+
+    @Test
+    void exactFitDoesNotHideLargerSessions() {
+        List<Event> events = events(new int[] { 200, 155, 90, 85, 85, 60, 55, 45, 10 });
+        List<Track> tracks = dispatcher.dispatchAll(events);
+        assertTrue(dispatcher.isProvenOptimal());
+        assertEquals(2, tracks.size());
+    }
+
+    @Test
+    void sameNumberOfTracksAsBruteForce() {
+        Random random = new Random(11);
+        for (int run = 0; run < 3000; run++) {
+            int[] minutes = new int[1 + random.nextInt(11)];
+            for (int i = 0; i < minutes.length; i++) {
+                minutes[i] = 5 * (1 + random.nextInt(40));
+            }
+            List<Track> tracks = dispatcher.dispatchAll(events(minutes));
+            assertTrue(dispatcher.isProvenOptimal());
+            assertEquals(minimalTracks(minutes), tracks.size(), () -> Arrays.toString(minutes));
+        }
+    }
+
+    private static List<Event> events(int[] minutes) {
+        List<Event> events = new ArrayList<>();
+        for (int m : minutes) {
+            events.add(new Event("Talk" + events.size(), Duration.ofMinutes(m)));
+        }
+        return events;
+    }
+
+    /**
+     * Returns the minimal number of tracks by trying every partition of the
+     * events into tracks.
+     */
+    private static int minimalTracks(int[] minutes) {
+        int n = minutes.length;
+        int[] sum = new int[1 << n];
+        for (int mask = 1; mask < 1 << n; mask++) {
+            int i = Integer.numberOfTrailingZeros(mask);
+            sum[mask] = sum[mask & mask - 1] + minutes[i];
+        }
+        // A set of events fits into a track if it can be split into a morning and an
+        // afternoon session.
+        boolean[] track = new boolean[1 << n];
+        for (int mask = 0; mask < 1 << n; mask++) {
+            for (int morning = mask;; morning = morning - 1 & mask) {
+                if (sum[morning] <= 180 && sum[mask ^ morning] <= 240) {
+                    track[mask] = true;
+                    break;
+                }
+                if (morning == 0) {
+                    break;
+                }
+            }
+        }
+        int[] tracks = new int[1 << n];
+        for (int mask = 1; mask < 1 << n; mask++) {
+            tracks[mask] = Integer.MAX_VALUE;
+            int lowest = mask & -mask;
+            for (int sub = mask; sub != 0; sub = sub - 1 & mask) {
+                if ((sub & lowest) != 0 && track[sub] && tracks[mask ^ sub] != Integer.MAX_VALUE) {
+                    tracks[mask] = Math.min(tracks[mask], tracks[mask ^ sub] + 1);
+                }
+            }
+        }
+        return tracks[(1 << n) - 1];
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedTrackTest extends TrackTest {
+
+    @Override
+    Track createTrack() {
+        return new Track(true);
+    }
+
+    @Test
+    void removedEventsFreeTheirMinutes() {
+        Track track = new Track(true);
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(30).plusSeconds(30));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(30));
+        track.put(LocalTime.of(9, 0), talk1);
+        track.put(LocalTime.of(9, 30, 30), talk2);
+        track.remove(LocalTime.of(9, 0));
+        assertTrue(track.isFree(LocalTime.of(9, 0), Duration.ofMinutes(30)));
+        assertThrows(IllegalStateException.class,
+                () -> track.put(LocalTime.of(9, 30), new Event("Talk3", Duration.ofMinutes(1))));
+        track.clear();
+        assertDoesNotThrow(() -> track.put(LocalTime.of(9, 30), new Event("Talk3", Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void eventsRemovedFromTheViewsFreeTheirMinutes() {
+        Track track = new Track(true);
+        track.put(LocalTime.of(9, 0), new Event("Talk1", Duration.ofHours(1)));
+        track.put(LocalTime.of(10, 0), new Event("Talk2", Duration.ofHours(1)));
+        track.put(LocalTime.of(11, 0), new Event("Talk3", Duration.ofHours(1)));
+        assertTrue(track.values().removeIf(e -> e.getTitle().equals("Talk1")));
+        assertTrue(track.keySet().remove(LocalTime.of(10, 0)));
+        assertEquals(1, track.size());
+        assertEquals(List.of(new Gap(LocalTime.MIN, LocalTime.of(11, 0)), new Gap(LocalTime.of(12, 0), LocalTime.MAX)),
+                track.gaps());
+        assertDoesNotThrow(() -> track.put(LocalTime.of(9, 30), new Event("Talk4", Duration.ofMinutes(90))));
+        assertThrows(UnsupportedOperationException.class,
+                () -> track.entrySet().iterator().next().setValue(new Event("Talk5", Duration.ofHours(5))));
+        track.entrySet().clear();
+        assertTrue(track.isFree(LocalTime.of(9, 0), Duration.ofHours(3)));
+    }
+}
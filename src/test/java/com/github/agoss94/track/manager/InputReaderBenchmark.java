@@ -0,0 +1,99 @@
+package com.github.agoss94.track.manager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.io.MappedInputReader;
+
+/**
+ * Compares the throughput of the input readers on a generated input file. The
+ * number of events may be given as first argument and defaults to a million.
+ */
+public class InputReaderBenchmark {
+
+    /**
+     * The number of measured rounds per reader.
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * A reader under test.
+     */
+    private interface Reader {
+
+        /**
+         * Reads the file and returns the number of events.
+         *
+         * @param file the file.
+         * @return the number of events.
+         * @throws IOException if the file cannot be read.
+         */
+        int read(Path file) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path file = Files.createTempFile("benchmark", ".txt");
+        try {
+            write(file, events);
+            System.out.printf("%d events, %d bytes%n", events, Files.size(file));
+            double regex = measure("InputReader.readFile", file, f -> new InputReader().readFile(f).size());
+            measure("InputReader.readTable", file, f -> new InputReader().readTable(f).size());
+            double mapped = measure("MappedInputReader.readTable", file,
+                    f -> new MappedInputReader().readTable(f).size());
+            int threads = Runtime.getRuntime().availableProcessors();
+            double parallel = measure("MappedInputReader " + threads + " threads", file,
+                    f -> new MappedInputReader(MappedInputReader.DEFAULT_REGION_SIZE, threads).readTable(f).size());
+            System.out.printf("speedup of the mapped reader: %.1fx, with %d threads: %.1fx%n", regex / mapped,
+                    threads, regex / parallel);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Writes an input file with the given number of events.
+     *
+     * @param file   the file.
+     * @param events the number of events.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void write(Path file, int events) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < events; i++) {
+                writer.write("Talk about topic number ");
+                writer.write(Integer.toString(i, 36).replaceAll("\\d", "x"));
+                writer.write(random.nextInt(10) == 0 ? " lightning" : " " + (5 + 5 * random.nextInt(12)) + "min");
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads the file with the reader and prints the best time of all rounds.
+     *
+     * @param name   the name of the reader.
+     * @param file   the file.
+     * @param reader the reader.
+     * @return the best time in milliseconds.
+     * @throws IOException if the file cannot be read.
+     */
+    private static double measure(String name, Path file, Reader reader) throws IOException {
+        // Warm up
+        reader.read(file);
+        double best = Double.MAX_VALUE;
+        int count = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            count = reader.read(file);
+            best = Math.min(best, (System.nanoTime() - start) / 1e6);
+        }
+        System.out.printf("%-28s %8.1f ms %12.0f events/s (%d events)%n", name, best, count / best * 1e3, count);
+        return best;
+    }
+}
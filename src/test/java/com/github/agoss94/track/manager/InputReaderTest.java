@@ -3,13 +3,17 @@ package com.github.agoss94.track.manager;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,4 +63,35 @@ public class InputReaderTest {
 
     }
 
+    @Test
+    void readTableLikeReadFile() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt", "Conference3.txt")) {
+            Path pathToFile = RESOURCES.resolve(file);
+            assertEquals(List.copyOf(reader.readFile(pathToFile)), reader.readTable(pathToFile).asList());
+        }
+        assertThrows(IOException.class, () -> reader.readTable(RESOURCES.resolve("test.java")));
+    }
+
+    @Test
+    void streamLikeReadFile() throws IOException {
+        InputReader reader = new InputReader();
+        Path pathToFile = RESOURCES.resolve("Conference2.txt");
+        try (Stream<Event> events = reader.stream(pathToFile)) {
+            assertEquals(List.copyOf(reader.readFile(pathToFile)), events.collect(Collectors.toList()));
+        }
+        assertThrows(IOException.class, () -> reader.stream(RESOURCES.resolve("test.java")));
+    }
+
+    @Test
+    void streamReadsLazily() throws IOException {
+        InputReader reader = new InputReader();
+        BufferedReader lines = new BufferedReader(new StringReader("Opening 30min\n\nLightning Talk lightning\nClosing 45min\n"));
+        assertEquals(List.of(new Event("Opening", Duration.ofMinutes(30))),
+                reader.stream(lines).limit(1).collect(Collectors.toList()));
+        assertEquals("", lines.readLine());
+        assertEquals(List.of(new Event("Lightning Talk", Duration.ofMinutes(5)),
+                new Event("Closing", Duration.ofMinutes(45))),
+                reader.stream(lines).collect(Collectors.toList()));
+    }
 }
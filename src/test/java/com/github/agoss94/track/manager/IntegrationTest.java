@@ -1,8 +1,11 @@
 package com.github.agoss94.track.manager;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -10,6 +13,7 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class IntegrationTest {
 
@@ -40,4 +44,20 @@ public class IntegrationTest {
         assertTrue(Files.exists(RESOURCES.resolve("Conference3-timetable.txt")));
     }
 
+    @Test
+    void packingModesReportLowerBound(@TempDir Path directory) throws IOException {
+        Path input = directory.resolve("Conference.txt");
+        Files.copy(RESOURCES.resolve("Conference.txt"), input);
+        PrintStream out = System.out;
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(report, true));
+        try {
+            TrackManager.main(new String[] { input.toString(), "-binpacking" });
+            TrackManager.main(new String[] { input.toString(), "-exact" });
+        } finally {
+            System.setOut(out);
+        }
+        assertEquals(String.format("%s: 2 tracks, lower bound 2 tracks%n"
+                + "%s: 2 tracks, lower bound 2 tracks, proven optimal%n", input, input), report.toString());
+    }
 }
@@ -0,0 +1,80 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.JointConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class JointConferenceDispatcherTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    @Test
+    void throwsNullPointerForNullInput() {
+        Dispatcher dispatcher = new JointConferenceDispatcher();
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatch(null));
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionForToLongEvents() {
+        Dispatcher dispatcher = new JointConferenceDispatcher();
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatch(Set.of(new Event("Talk", Duration.ofHours(5)))));
+    }
+
+    @Test
+    void fillsBothSessionsJointly() {
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(90));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(90));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(100));
+        Event talk4 = new Event("Talk4", Duration.ofMinutes(150));
+        Event talk5 = new Event("Talk5", Duration.ofMinutes(150));
+        List<Event> events = List.of(talk1, talk2, talk3, talk4, talk5);
+
+        // Filling the morning first leaves only a single talk for the afternoon.
+        Track greedy = new OptimalConferenceDispatcher(SubsetSumDispatcher::new).dispatch(events);
+        assertEquals(Duration.ofMinutes(60 + 330), scheduled(greedy));
+
+        Track track = new JointConferenceDispatcher().dispatch(events);
+        assertEquals(Duration.ofMinutes(60 + 390), scheduled(track));
+        assertEquals("Lunch", track.get(LocalTime.of(12, 0)).getTitle());
+        assertEquals("Networking Event", track.get(LocalTime.of(17, 0)).getTitle());
+    }
+
+    @Test
+    void atLeastAsGoodAsSessionBySession() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt", "Conference3.txt")) {
+            Collection<Event> events = reader.readFile(RESOURCES.resolve(file));
+            Track greedy = new OptimalConferenceDispatcher(SubsetSumDispatcher::new).dispatch(events);
+            Track joint = new JointConferenceDispatcher().dispatch(events);
+            assertTrue(scheduled(joint).compareTo(scheduled(greedy)) >= 0);
+        }
+    }
+
+    private Duration scheduled(Track track) {
+        return track.values().stream()
+                .filter(e -> !e.isOpenEnd())
+                .map(Event::getDuration)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+}
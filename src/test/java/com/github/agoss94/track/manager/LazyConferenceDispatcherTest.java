@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import com.github.agoss94.track.manager.dispatcher.Dispatcher;
 import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
+import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher.Fit;
 
 public class LazyConferenceDispatcherTest {
 
@@ -80,4 +82,38 @@ public class LazyConferenceDispatcherTest {
         assertEquals("Networking Event", networking.getTitle());
     }
 
+    @Test
+    void firstFitRespectsSeconds() {
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(150));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(30).plusSeconds(1));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(20).plusSeconds(30));
+        Event talk4 = new Event("Talk4", Duration.ofMinutes(9).plusSeconds(30));
+        Track track = new LazyConferenceDispatcher().dispatch(List.of(talk1, talk2, talk3, talk4));
+        assertEquals(talk1, track.get(LocalTime.of(9, 0)));
+        assertEquals(talk3, track.get(LocalTime.of(11, 30)));
+        assertEquals(talk4, track.get(LocalTime.of(11, 50, 30)));
+        assertEquals(talk2, track.get(LocalTime.of(13, 0)));
+    }
+
+    @Test
+    void bestFitTakesLongestEvent() {
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(30));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(180));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(200));
+        Event talk4 = new Event("Talk4", Duration.ofMinutes(30));
+        Track track = new LazyConferenceDispatcher(Fit.BEST).dispatch(List.of(talk1, talk2, talk3, talk4));
+        assertEquals(talk2, track.get(LocalTime.of(9, 0)));
+        assertEquals(talk3, track.get(LocalTime.of(13, 0)));
+        assertEquals(talk1, track.get(LocalTime.of(16, 20)));
+        assertEquals("Networking Event", track.get(LocalTime.of(17, 0)).getTitle());
+    }
+
+    @Test
+    void dispatchAllKeepsEqualEvents() {
+        List<Event> events = Collections.nCopies(20, new Event("Talk", Duration.ofMinutes(60)));
+        List<Track> tracks = new LazyConferenceDispatcher().dispatchAll(events);
+        assertEquals(3, tracks.size());
+        assertEquals(7, tracks.get(0).size() - 2);
+        assertEquals(6, tracks.get(2).size() - 2);
+    }
 }
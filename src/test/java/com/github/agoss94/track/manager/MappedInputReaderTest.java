@@ -0,0 +1,97 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.io.MappedInputReader;
+
+public class MappedInputReaderTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void throwsExceptionForNonTextfiles() {
+        MappedInputReader reader = new MappedInputReader();
+        IOException e = assertThrows(IOException.class, () -> reader.readFile(RESOURCES.resolve("test.java")));
+        assertEquals("Input file is no text file.", e.getMessage());
+    }
+
+    @Test
+    void readsLikeInputReader() throws IOException {
+        for (String file : List.of("Conference.txt", "Conference2.txt", "Conference3.txt")) {
+            Path pathToFile = RESOURCES.resolve(file);
+            assertEquals(new InputReader().readFile(pathToFile), new MappedInputReader().readFile(pathToFile));
+            assertEquals(new InputReader().readFile(pathToFile), new MappedInputReader(64).readFile(pathToFile));
+        }
+    }
+
+    @Test
+    void readsTrailingToken() throws IOException {
+        Path input = directory.resolve("Input.txt");
+        Files.write(input, ("Web 2.0 in 10 Steps 45min\r\n" + "Café Übersicht lightning  \r\n" + "\r\n"
+                + "No Duration\n" + "Talk45min\n" + "Last 60min").getBytes(StandardCharsets.UTF_8));
+        List<Event> expected = List.of(new Event("Web 2.0 in 10 Steps", Duration.ofMinutes(45)),
+                new Event("Café Übersicht", Duration.ofMinutes(5)), new Event("Last", Duration.ofMinutes(60)));
+        assertEquals(expected, new MappedInputReader().readFile(input));
+        assertEquals(expected, new MappedInputReader(32).readFile(input));
+    }
+
+    @Test
+    void readsSameEventsAsInputReader() throws IOException {
+        Path input = directory.resolve("Input.txt");
+        Files.write(input, ("Web 2.0 in 10 Steps 45min\n" + "Talk 45\n" + "45min\n" + "lightning\n"
+                + "Talklightning\n" + "Talk45min\n" + "Talk 45min  \n" + "Talk 45 min\n" + "Café 30min\n" + "\n"
+                + " \t \n" + "Talk min\n" + "Talk\t30min\n" + "Talk 0min\n" + "Lightning talk lightning\t\r\n")
+                        .getBytes(StandardCharsets.UTF_8));
+        List<Event> expected = List.of(new Event("Web 2.0 in 10 Steps", Duration.ofMinutes(45)),
+                new Event("", Duration.ofMinutes(45)), new Event("", Duration.ofMinutes(5)),
+                new Event("Talk", Duration.ofMinutes(45)), new Event("Café", Duration.ofMinutes(30)),
+                new Event("Talk", Duration.ZERO), new Event("Lightning talk", Duration.ofMinutes(5)));
+        assertEquals(expected, new MappedInputReader().readFile(input));
+        assertEquals(expected, new InputReader().readFile(input));
+        assertEquals(expected, new InputReader().readTable(input).asList());
+    }
+
+    @Test
+    void rejectsLinesLongerThanRegion() throws IOException {
+        Path input = directory.resolve("Input.txt");
+        Files.writeString(input, "A very long title 45min\nShort 5min\n");
+        assertThrows(IOException.class, () -> new MappedInputReader(8).readFile(input));
+    }
+
+    @Test
+    void parallelReadKeepsOrder() throws IOException {
+        Path input = directory.resolve("Input.txt");
+        List<Event> expected = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(input)) {
+            for (int i = 0; i < 100_000; i++) {
+                Event e = new Event("Talk " + i, Duration.ofMinutes(5 + i % 120));
+                expected.add(e);
+                writer.write(e.toString());
+                writer.write(i % 2 == 0 ? "\n" : "\r\n");
+            }
+        }
+        assertEquals(expected, new MappedInputReader(MappedInputReader.DEFAULT_REGION_SIZE, 4).readFile(input));
+        assertEquals(expected, new MappedInputReader(1 << 21, 3).readFile(input));
+    }
+}
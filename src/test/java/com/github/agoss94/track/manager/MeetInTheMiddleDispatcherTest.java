@@ -0,0 +1,96 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.MeetInTheMiddleDispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
+
+public class MeetInTheMiddleDispatcherTest {
+
+    private Dispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        dispatcher = new MeetInTheMiddleDispatcher(LocalTime.of(9, 0), Duration.ofHours(3));
+    }
+
+    @Test
+    void throwsNullpointerIfEventsIsNull() {
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatch(null));
+    }
+
+    @Test
+    void emptyCollectionReturnsthrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(Collections.emptySet()));
+    }
+
+    @Test
+    void eventSetWithoutSolutionThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatch(Set.of(new Event("Talk1", Duration.ofHours(4)))));
+    }
+
+    @Test
+    void tooManyEventsThrowsException() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i <= MeetInTheMiddleDispatcher.MAX_EVENTS; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(30)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(events));
+    }
+
+    @Test
+    void noExactSolution() {
+        Event talk1 = new Event("Talk1", Duration.ofHours(2));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(45));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(90));
+        List<Event> events = List.of(talk1, talk2, talk3);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        expected.put(LocalTime.of(11, 0), talk2);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void sameFillAsSubsetSumDispatcherForLongSessions() {
+        Random random = new Random(42);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 36; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(7 + random.nextInt(113))));
+        }
+        Duration limit = Duration.ofHours(19).plusMinutes(7);
+        Track expected = new SubsetSumDispatcher(LocalTime.MIN, limit).dispatch(events);
+        Track actual = new MeetInTheMiddleDispatcher(LocalTime.MIN, limit).dispatch(events);
+        assertEquals(expected.end(), actual.end());
+    }
+
+    @Test
+    void sessionMustEndByMidnight() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeetInTheMiddleDispatcher(LocalTime.of(9, 0), Duration.ofHours(15).plusSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeetInTheMiddleDispatcher(LocalTime.MIN, Duration.ofDays(365)));
+
+        Event talk1 = new Event("Talk1", Duration.ofHours(10));
+        Event talk2 = new Event("Talk2", Duration.ofHours(5));
+        Track track = new MeetInTheMiddleDispatcher(LocalTime.of(9, 0), Duration.ofHours(15))
+                .dispatch(List.of(talk1, talk2));
+        assertEquals(2, track.size());
+        assertEquals(LocalTime.MIDNIGHT, track.end());
+    }
+}
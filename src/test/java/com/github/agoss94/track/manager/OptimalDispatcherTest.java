@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -99,4 +101,61 @@ public class OptimalDispatcherTest {
         Track optimalTrack = dispatcher.dispatch(events);
         assertEquals(LocalTime.of(12, 0), optimalTrack.end());
     }
+
+    @Test
+    void parallelismMustBePositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3), 0));
+    }
+
+    @Test
+    void parallelSearchFindsOptimalSolution() {
+        // Fractions of minutes are searched by the subset construction.
+        Dispatcher parallel = new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3), 4);
+        Event talk1 = new Event("Talk1", Duration.ofHours(2).plusSeconds(30));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(45).plusSeconds(15));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(90));
+        Event talk4 = new Event("Talk4", Duration.ofMinutes(50).plusSeconds(40));
+        Event talk5 = new Event("Talk5", Duration.ofMinutes(25).plusSeconds(20));
+        List<Event> events = List.of(talk1, talk2, talk3, talk4, talk5);
+
+        Track optimalTrack = parallel.dispatch(events);
+        assertEquals(LocalTime.of(11, 51, 10), optimalTrack.end());
+        assertEquals(dispatcher.dispatch(events).end(), optimalTrack.end());
+    }
+
+    @Test
+    void parallelSearchFindsSameFillAsSequentialSearch() {
+        Random random = new Random(7);
+        for (int run = 0; run < 20; run++) {
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 14; i++) {
+                events.add(new Event("Talk" + i, Duration.ofSeconds(60 * (10 + random.nextInt(60)) + random.nextInt(60))));
+            }
+            Track sequential = new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3), 1).dispatch(events);
+            Track parallel = new OptimalDispatcher(LocalTime.of(9, 0), Duration.ofHours(3), 4).dispatch(events);
+            assertEquals(sequential.end(), parallel.end());
+        }
+    }
+
+    @Test
+    void manyEventsAreReconstructedFromKernel() {
+        // Far too many subsets for the construction.
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            events.add(new Event("Talk" + i, Duration.ofMinutes(7)));
+        }
+        Track optimalTrack = dispatcher.dispatch(events);
+        assertEquals(25, optimalTrack.size());
+        assertEquals(LocalTime.of(11, 55), optimalTrack.end());
+    }
+
+    @Test
+    void fractionsOfMinutesAreSearched() {
+        Event talk1 = new Event("Talk1", Duration.ofMinutes(90).plusSeconds(30));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(89).plusSeconds(30));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(90));
+        Track optimalTrack = dispatcher.dispatch(List.of(talk1, talk2, talk3));
+        assertEquals(LocalTime.of(12, 0), optimalTrack.end());
+    }
 }
@@ -0,0 +1,116 @@
+package com.github.agoss94.track.manager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.agoss94.track.manager.io.OutputWriter;
+
+/**
+ * Compares the output writer with writing {@link Track#toString()} of every
+ * track. The number of tracks may be given as first argument and defaults to
+ * 100,000.
+ */
+public class OutputWriterBenchmark {
+
+    /**
+     * The number of measured rounds per writer.
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * A writer under test.
+     */
+    private interface Writer {
+
+        /**
+         * Writes the tracks to the file.
+         *
+         * @param file   the file.
+         * @param tracks the tracks.
+         * @throws IOException if the file cannot be written.
+         */
+        void write(Path file, List<Track> tracks) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Track track = new CompactTrack();
+            track.put(LocalTime.of(9, 0), new Event("Writing Fast Tests Against Enterprise Rails", Duration.ofMinutes(60)));
+            track.put(LocalTime.of(10, 0), new Event("Overdoing it in Python", Duration.ofMinutes(45)));
+            track.put(LocalTime.of(10, 45), new Event("Lua for the Masses", Duration.ofMinutes(30)));
+            track.put(LocalTime.of(11, 15), new Event("Ruby Errors from Mismatched Gem Versions", Duration.ofMinutes(45)));
+            track.put(LocalTime.of(12, 0), new Event("Lunch", Duration.ofMinutes(60)));
+            track.put(LocalTime.of(13, 0), new Event("Ruby on Rails: Why We Should Move On", Duration.ofMinutes(60)));
+            track.put(LocalTime.of(14, 0), new Event("Common Ruby Errors", Duration.ofMinutes(45)));
+            track.put(LocalTime.of(14, 45), new Event("Pair Programming vs Noise", Duration.ofMinutes(45)));
+            track.put(LocalTime.of(15, 30), new Event("Programming in the Boondocks of Seattle", Duration.ofMinutes(30)));
+            track.put(LocalTime.of(16, 0), new Event("Ruby vs. Clojure for Back-End Development", Duration.ofMinutes(30)));
+            track.put(LocalTime.of(16, 30), new Event("User Interface CSS in Rails Apps", Duration.ofMinutes(30)));
+            track.put(LocalTime.of(17, 0), new Event("Networking Event"));
+            tracks.add(track);
+        }
+        Path expected = Files.createTempFile("benchmark", ".txt");
+        Path actual = Files.createTempFile("benchmark", ".txt");
+        try {
+            double toString = measure("Track.toString", expected, tracks, OutputWriterBenchmark::writeToString);
+            double writer = measure("OutputWriter.writeFile", actual, tracks, new OutputWriter()::writeFile);
+            boolean identical = Arrays.equals(Files.readAllBytes(expected), Files.readAllBytes(actual));
+            System.out.printf("speedup: %.1fx, identical output: %s%n", toString / writer, identical);
+        } finally {
+            Files.delete(expected);
+            Files.delete(actual);
+        }
+    }
+
+    /**
+     * Writes the tracks like the output writer did before, with a string per
+     * track.
+     *
+     * @param file   the file.
+     * @param tracks the tracks.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeToString(Path file, List<Track> tracks) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < tracks.size(); i++) {
+                writer.append("Track " + (i + 1) + ":");
+                writer.append(System.lineSeparator());
+                writer.append(tracks.get(i).toString());
+                writer.append(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Writes the tracks with the writer and prints the best time of all rounds.
+     *
+     * @param name   the name of the writer.
+     * @param file   the file.
+     * @param tracks the tracks.
+     * @param writer the writer.
+     * @return the best time in milliseconds.
+     * @throws IOException if the file cannot be written.
+     */
+    private static double measure(String name, Path file, List<Track> tracks, Writer writer) throws IOException {
+        // Warm up
+        writer.write(file, tracks);
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            writer.write(file, tracks);
+            best = Math.min(best, (System.nanoTime() - start) / 1e6);
+        }
+        System.out.printf("%-24s %8.1f ms %10.0f tracks/s%n", name, best, tracks.size() / best * 1e3);
+        return best;
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.agoss94.track.manager.io.OutputWriter;
+
+public class OutputWriterTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Returns the output as it has been written with {@link Track#toString()}.
+     */
+    private static String expected(List<Track> tracks) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tracks.size(); i++) {
+            sb.append("Track " + (i + 1) + ":").append(System.lineSeparator());
+            sb.append(tracks.get(i)).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void writesLikeTrackToString() throws IOException {
+        Track track = new Track();
+        track.put(LocalTime.of(9, 0), new Event("Café Übersicht ☕ 🚀", Duration.ofMinutes(60)));
+        track.put(LocalTime.of(10, 0, 30), new Event("Seconds", Duration.ofSeconds(90)));
+        track.put(LocalTime.of(17, 0), new Event("Networking Event"));
+        CompactTrack compact = new CompactTrack(track);
+        List<Track> tracks = List.of(track, new Track(), compact);
+
+        Path output = directory.resolve("Output.txt");
+        new OutputWriter().writeFile(output, tracks);
+        assertArrayEquals(expected(tracks).getBytes(StandardCharsets.UTF_8), Files.readAllBytes(output));
+        StringWriter writer = new StringWriter();
+        new OutputWriter().write(writer, tracks);
+        assertEquals(expected(tracks), writer.toString());
+    }
+
+    @Test
+    void writesMoreThanBuffer() throws IOException {
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Track track = new Track();
+            for (int h = 9; h < 17; h++) {
+                track.put(LocalTime.of(h, 0), new Event("Talk " + i + " at " + h, Duration.ofMinutes(45 + i % 15)));
+            }
+            tracks.add(track);
+        }
+        OutputWriter writer = new OutputWriter();
+        Path output = directory.resolve("Output.txt");
+        writer.writeFile(output, tracks.subList(0, 1));
+        writer.writeFile(output, tracks);
+        assertArrayEquals(expected(tracks).getBytes(StandardCharsets.UTF_8), Files.readAllBytes(output));
+    }
+
+    @Test
+    void rejectsUnpairedSurrogates() {
+        Track track = new Track();
+        track.put(LocalTime.of(9, 0), new Event("Broken \uD83D", Duration.ofMinutes(60)));
+        assertThrows(MalformedInputException.class,
+                () -> new OutputWriter().writeFile(directory.resolve("Output.txt"), List.of(track)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScheduleCacheTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    private static final Event TALK1 = new Event("Talk1", Duration.ofMinutes(60));
+
+    private static final Event TALK2 = new Event("Talk2", Duration.ofMinutes(45));
+
+    @TempDir
+    Path directory;
+
+    private static List<Track> schedule(Event e) {
+        Track track = new Track();
+        track.put(LocalTime.of(9, 0), e);
+        track.put(LocalTime.of(17, 0), new Event("Networking Event"));
+        return List.of(track);
+    }
+
+    @Test
+    void keyIsIndependentOfOrder() {
+        assertEquals(ScheduleCache.key(List.of(TALK1, TALK2), "-optimal"),
+                ScheduleCache.key(List.of(TALK2, TALK1), "-optimal"));
+        assertNotEquals(ScheduleCache.key(List.of(TALK1, TALK2), "-optimal"),
+                ScheduleCache.key(List.of(TALK1, TALK2), "-binpacking"));
+        assertNotEquals(ScheduleCache.key(List.of(TALK1, TALK2), ""), ScheduleCache.key(List.of(TALK1, TALK1), ""));
+        assertNotEquals(ScheduleCache.key(List.of(new Event("ab"), new Event("c")), ""),
+                ScheduleCache.key(List.of(new Event("a"), new Event("bc")), ""));
+    }
+
+    @Test
+    void returnsCachedSchedule() throws IOException {
+        ScheduleCache cache = new ScheduleCache(directory.resolve("cache"), ScheduleCache.DEFAULT_MAX_SIZE);
+        String key = ScheduleCache.key(List.of(TALK1), "");
+        assertEquals(Optional.empty(), cache.get(key));
+        cache.put(key, schedule(TALK1));
+        assertEquals(Optional.of(schedule(TALK1)), cache.get(key));
+        assertEquals(Optional.of(schedule(TALK1)),
+                new ScheduleCache(directory.resolve("cache"), ScheduleCache.DEFAULT_MAX_SIZE).get(key));
+    }
+
+    @Test
+    void unreadableScheduleIsMissing() throws IOException {
+        ScheduleCache cache = new ScheduleCache(directory, ScheduleCache.DEFAULT_MAX_SIZE);
+        String key = ScheduleCache.key(List.of(TALK1), "");
+        Files.writeString(directory.resolve(key + ".bin"), "broken");
+        assertEquals(Optional.empty(), cache.get(key));
+        assertFalse(Files.exists(directory.resolve(key + ".bin")));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws IOException {
+        String key1 = ScheduleCache.key(List.of(TALK1), "");
+        String key2 = ScheduleCache.key(List.of(TALK2), "");
+        String key3 = ScheduleCache.key(List.of(TALK1, TALK2), "");
+        new ScheduleCache(directory, Long.MAX_VALUE).put(key1, schedule(TALK1));
+        long size = Files.size(directory.resolve(key1 + ".bin"));
+        ScheduleCache cache = new ScheduleCache(directory, 2 * size);
+        cache.put(key2, schedule(TALK2));
+        assertTrue(cache.get(key1).isPresent());
+        // A file system, which stores the modification time in whole seconds.
+        FileTime time = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(directory.resolve(key1 + ".bin"), time);
+        Files.setLastModifiedTime(directory.resolve(key2 + ".bin"), time);
+        cache.put(key3, schedule(TALK1));
+        assertTrue(cache.get(key1).isPresent());
+        assertFalse(cache.get(key2).isPresent());
+        assertTrue(cache.get(key3).isPresent());
+    }
+
+    @Test
+    void schedulesMissingInLogAreOlder() throws IOException {
+        String key1 = ScheduleCache.key(List.of(TALK1), "");
+        String key2 = ScheduleCache.key(List.of(TALK2), "");
+        String key3 = ScheduleCache.key(List.of(TALK1, TALK2), "");
+        ScheduleCache cache = new ScheduleCache(directory, Long.MAX_VALUE);
+        cache.put(key1, schedule(TALK1));
+        cache.put(key2, schedule(TALK2));
+        Files.delete(directory.resolve("uses.log"));
+        assertTrue(cache.get(key2).isPresent());
+        long size = Files.size(directory.resolve(key1 + ".bin"));
+        new ScheduleCache(directory, 2 * size).put(key3, schedule(TALK1));
+        assertFalse(cache.get(key1).isPresent());
+        assertTrue(cache.get(key2).isPresent());
+        assertTrue(cache.get(key3).isPresent());
+    }
+
+    @Test
+    void trackManagerUsesCache() throws IOException {
+        Path input = directory.resolve("Conference.txt");
+        Files.copy(RESOURCES.resolve("Conference.txt"), input);
+        Path cache = directory.resolve("cache");
+        String[] args = { input.toString(), "-binpacking", "-cache", cache.toString() };
+        TrackManager.main(args);
+        byte[] expected = Files.readAllBytes(TrackManager.timetableOf(input));
+        try (Stream<Path> files = Files.list(cache)) {
+            assertEquals(1, files.filter(f -> f.toString().endsWith(".bin")).count());
+        }
+        Files.delete(TrackManager.timetableOf(input));
+        TrackManager.main(args);
+        assertEquals(new String(expected), Files.readString(TrackManager.timetableOf(input)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.LazyConferenceDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+import com.github.agoss94.track.manager.io.OutputWriter;
+
+public class ScheduleServerTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    private ScheduleServer server;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = new ScheduleServer(new InetSocketAddress("localhost", 0), LazyConferenceDispatcher::new, 2, 4);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void queueMustNotBeEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleServer(new InetSocketAddress(0),
+                LazyConferenceDispatcher::new, 1, 0));
+    }
+
+    @Test
+    void respondsWithTimetable() throws IOException {
+        Path input = RESOURCES.resolve("Conference.txt");
+        StringWriter expected = new StringWriter();
+        new OutputWriter().write(expected,
+                new LazyConferenceDispatcher().dispatchAll(new InputReader().readFile(input)));
+
+        HttpURLConnection connection = post(Files.readAllBytes(input));
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void rejectsInvalidEvents() throws IOException {
+        HttpURLConnection connection = post("Talk 300min".getBytes(StandardCharsets.UTF_8));
+        assertEquals(400, connection.getResponseCode());
+        connection = post("Talk 99999999999min".getBytes(StandardCharsets.UTF_8));
+        assertEquals(400, connection.getResponseCode());
+    }
+
+    @Test
+    void answersFailuresWithServerError() throws IOException {
+        server.stop();
+        // A bug of the dispatcher is no fault of the request.
+        server = new ScheduleServer(new InetSocketAddress("localhost", 0), () -> events -> {
+            throw new StringIndexOutOfBoundsException();
+        }, 1, 1);
+        server.start();
+        HttpURLConnection connection = post("Talk 30min".getBytes(StandardCharsets.UTF_8));
+        assertEquals(500, connection.getResponseCode());
+    }
+
+    @Test
+    void rejectsOtherMethods() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url().openConnection();
+        assertEquals(405, connection.getResponseCode());
+    }
+
+    private HttpURLConnection post(byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url().openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        return connection;
+    }
+
+    private URL url() throws IOException {
+        return new URL("http", "localhost", server.getAddress().getPort(), ScheduleServer.PATH);
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.Dispatcher;
+import com.github.agoss94.track.manager.dispatcher.OptimalDispatcher;
+import com.github.agoss94.track.manager.dispatcher.SubsetSumDispatcher;
+import com.github.agoss94.track.manager.io.InputReader;
+
+public class SubsetSumDispatcherTest {
+
+    /**
+     * Path for all test resources.
+     */
+    public static final Path RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources");
+
+    private Dispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        dispatcher = new SubsetSumDispatcher(LocalTime.of(9, 0), Duration.ofHours(3));
+    }
+
+    @Test
+    void throwsNullpointerIfEventsIsNull() {
+        assertThrows(NullPointerException.class, () -> dispatcher.dispatch(null));
+    }
+
+    @Test
+    void emptyCollectionReturnsthrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(Collections.emptySet()));
+    }
+
+    @Test
+    void eventSetWithoutSolutionThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatch(Set.of(new Event("Talk1", Duration.ofHours(4)))));
+    }
+
+    @Test
+    void allEventsIncluded() {
+        Event talk1 = new Event("Talk1", Duration.ofHours(1));
+        Event talk2 = new Event("Talk2", Duration.ofHours(1));
+        Event talk3 = new Event("Talk3", Duration.ofHours(1));
+        List<Event> events = List.of(talk1, talk2, talk3);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        expected.put(LocalTime.of(10, 0), talk2);
+        expected.put(LocalTime.of(11, 0), talk3);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void onlySubsetIsSolution() {
+        Event talk1 = new Event("Talk1", Duration.ofHours(3));
+        Event talk2 = new Event("Talk2", Duration.ofHours(1));
+        Event talk3 = new Event("Talk3", Duration.ofHours(1));
+        List<Event> events = List.of(talk1, talk2, talk3);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void noExactSolution() {
+        Event talk1 = new Event("Talk1", Duration.ofHours(2));
+        Event talk2 = new Event("Talk2", Duration.ofMinutes(45));
+        Event talk3 = new Event("Talk3", Duration.ofMinutes(90));
+        List<Event> events = List.of(talk1, talk2, talk3);
+
+        // Expected solution
+        Track expected = new Track();
+        expected.put(LocalTime.of(9, 0), talk1);
+        expected.put(LocalTime.of(11, 0), talk2);
+        assertEquals(expected, dispatcher.dispatch(events));
+    }
+
+    @Test
+    void sameFillAsOptimalDispatcher() throws IOException {
+        InputReader reader = new InputReader();
+        for (String file : List.of("Conference.txt", "Conference2.txt")) {
+            Collection<Event> events = reader.readFile(RESOURCES.resolve(file));
+            for (Duration limit : List.of(Duration.ofHours(3), Duration.ofHours(4))) {
+                Track expected = new OptimalDispatcher(LocalTime.of(9, 0), limit).dispatch(events);
+                Track actual = new SubsetSumDispatcher(LocalTime.of(9, 0), limit).dispatch(events);
+                assertEquals(expected.end(), actual.end());
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.agoss94.track.manager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.agoss94.track.manager.dispatcher.SubsetSumKernel;
+
+public class SubsetSumKernelTest {
+
+    @Test
+    void negativeCapacityThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new SubsetSumKernel(-1));
+    }
+
+    @Test
+    void allReachableFills() {
+        SubsetSumKernel kernel = new SubsetSumKernel(180);
+        assertEquals(165, kernel.solve(new int[] { 120, 45, 90 }, 3));
+        for (int fill : new int[] { 0, 45, 90, 120, 135, 165 }) {
+            assertTrue(kernel.isReachable(fill));
+        }
+        assertFalse(kernel.isReachable(210));
+        assertFalse(kernel.isReachable(100));
+    }
+
+    @Test
+    void reconstructSelection() {
+        SubsetSumKernel kernel = new SubsetSumKernel(180);
+        assertEquals(165, kernel.solve(new int[] { 120, 45, 90 }, 3));
+        assertArrayEquals(new boolean[] { true, true, false }, kernel.reconstruct(165, 3));
+        assertArrayEquals(new boolean[] { false, true, true }, kernel.reconstruct(135, 3));
+    }
+
+    @Test
+    void shiftsAcrossWords() {
+        SubsetSumKernel kernel = new SubsetSumKernel(240);
+        assertEquals(240, kernel.solve(new int[] { 63, 65, 100, 7, 5, 70 }, 6));
+        boolean[] chosen = kernel.reconstruct(240, 6);
+        int[] durations = { 63, 65, 100, 7, 5, 70 };
+        int sum = 0;
+        for (int i = 0; i < durations.length; i++) {
+            sum += chosen[i] ? durations[i] : 0;
+        }
+        assertEquals(240, sum);
+    }
+
+    @Test
+    void unreachableFillThrowsException() {
+        SubsetSumKernel kernel = new SubsetSumKernel(180);
+        kernel.solve(new int[] { 60 }, 1);
+        assertThrows(IllegalArgumentException.class, () -> kernel.reconstruct(30, 1));
+    }
+}
@@ -2,10 +2,15 @@ package com.github.agoss94.track.manager;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +25,11 @@ public class TrackTest {
 
     @BeforeEach
     void setup() {
-        track = new Track();
+        track = createTrack();
+    }
+
+    Track createTrack() {
+        return new Track();
     }
 
     @Test
@@ -100,4 +109,117 @@ public class TrackTest {
         LocalTime eleven = LocalTime.of(11, 0);
         assertEquals(LocalTime.of(10, 0), track.endPrevious(eleven));
     }
+
+    @Test
+    void isFreeBetweenEvents() {
+        track.put(LocalTime.of(9, 0), TALK_ONE_HOUR);
+        track.put(LocalTime.of(11, 0), TALK_OPEN_END);
+        assertTrue(track.isFree(LocalTime.of(10, 0), Duration.ofHours(1)));
+        assertFalse(track.isFree(LocalTime.of(9, 59, 59), Duration.ofMinutes(1)));
+        assertFalse(track.isFree(LocalTime.of(10, 0, 1), Duration.ofHours(1)));
+        assertFalse(track.isFree(LocalTime.of(12, 0), Duration.ofMinutes(1)));
+        assertTrue(track.isFree(LocalTime.of(8, 0), Duration.ofHours(1)));
+    }
+
+    @Test
+    void behavesLikePlainTrack() {
+        Random random = new Random(3);
+        Track expected = new Track();
+        for (int i = 0; i < 500; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(22), random.nextInt(60), 30 * random.nextInt(2));
+            Duration duration = Duration.ofMinutes(random.nextInt(60)).plusSeconds(30 * random.nextInt(2));
+            Event e = new Event("Talk" + i, i % 10 == 0 ? Duration.ZERO : duration);
+            assertEquals(expected.isFree(start, e.getDuration()), track.isFree(start, e.getDuration()));
+            IllegalStateException expectedException = null;
+            try {
+                expected.put(start, e);
+            } catch (IllegalStateException ex) {
+                expectedException = ex;
+            }
+            if (expectedException == null) {
+                track.put(start, e);
+            } else {
+                IllegalStateException ex = assertThrows(IllegalStateException.class, () -> track.put(start, e));
+                assertEquals(expectedException.getMessage(), ex.getMessage());
+            }
+            if (i % 50 == 49) {
+                LocalTime key = expected.keySet().iterator().next();
+                assertEquals(expected.remove(key), track.remove(key));
+            }
+            LocalTime probe = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            assertEquals(expected.ceilingKey(probe), track.ceilingKey(probe));
+            assertEquals(expected.endPrevious(probe), track.endPrevious(probe));
+            assertEquals(expected.get(probe), track.get(probe));
+        }
+        assertEquals(expected, track);
+        assertEquals(track, expected);
+        assertEquals(expected.toString(), track.toString());
+        assertEquals(expected.end(), track.end());
+    }
+
+    @Test
+    void zeroDurationEventsBlockLikePlainTrack() {
+        Track expected = new Track();
+        Event zero = new Event("zero", Duration.ZERO);
+        expected.put(LocalTime.of(10, 0), zero);
+        track.put(LocalTime.of(10, 0), zero);
+        assertFalse(track.isFree(LocalTime.of(9, 30), Duration.ofMinutes(60)));
+        IllegalStateException expectedException = assertThrows(IllegalStateException.class,
+                () -> expected.put(LocalTime.of(9, 30), TALK_ONE_HOUR));
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> track.put(LocalTime.of(9, 30), TALK_ONE_HOUR));
+        assertEquals(expectedException.getMessage(), ex.getMessage());
+        track.put(LocalTime.of(10, 0, 30), TALK_ONE_HOUR);
+        expected.put(LocalTime.of(10, 0, 30), TALK_ONE_HOUR);
+        assertEquals(expected.gaps(), track.gaps());
+    }
+
+    @Test
+    void gapsOfEmptyTrack() {
+        assertEquals(List.of(new Gap(LocalTime.MIN, LocalTime.MAX)), track.gaps());
+        assertEquals(Optional.of(new Gap(LocalTime.MIN, LocalTime.MAX)), track.largestGap());
+    }
+
+    @Test
+    void gapsBetweenEvents() {
+        track.put(LocalTime.of(9, 0), TALK_ONE_HOUR);
+        track.put(LocalTime.of(12, 0), TALK_ONE_HOUR);
+        track.put(LocalTime.of(17, 0), TALK_OPEN_END);
+        assertEquals(List.of(new Gap(LocalTime.MIN, LocalTime.of(9, 0)), new Gap(LocalTime.of(10, 0), LocalTime.of(12, 0)),
+                new Gap(LocalTime.of(13, 0), LocalTime.of(17, 0))), track.gaps());
+        assertEquals(Optional.of(new Gap(LocalTime.MIN, LocalTime.of(9, 0))), track.largestGap());
+        assertEquals(Optional.of(new Gap(LocalTime.of(10, 30), LocalTime.of(12, 0))),
+                track.firstGap(LocalTime.of(10, 30), Duration.ofMinutes(90)));
+        assertEquals(Optional.of(new Gap(LocalTime.of(13, 0), LocalTime.of(17, 0))),
+                track.firstGap(LocalTime.of(8, 0), Duration.ofHours(3)));
+        assertEquals(Optional.empty(), track.firstGap(LocalTime.of(8, 0), Duration.ofHours(5)));
+    }
+
+    @Test
+    void gapsLastUntilMidnight() {
+        track.put(LocalTime.of(9, 0), TALK_ONE_HOUR);
+        assertEquals(Duration.ofHours(14), track.gaps().get(1).getDuration());
+        assertEquals(Optional.of(new Gap(LocalTime.of(23, 0), LocalTime.MAX)),
+                track.firstGap(LocalTime.of(23, 0), Duration.ofHours(1)));
+        assertDoesNotThrow(() -> track.put(LocalTime.of(23, 0), TALK_ONE_HOUR));
+        assertEquals(Optional.empty(), track.firstGap(LocalTime.of(23, 0), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void gapsLikePlainTrack() {
+        Random random = new Random(5);
+        Track expected = new Track();
+        for (int i = 0; i < 300; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(23), random.nextInt(60), i < 150 ? 0 : 30 * random.nextInt(2));
+            Event e = new Event("Talk" + i, Duration.ofMinutes(random.nextInt(30)));
+            if (expected.isFree(start, e.getDuration())) {
+                expected.put(start, e);
+                track.put(start, e);
+            }
+            assertEquals(expected.gaps(), track.gaps());
+            LocalTime after = LocalTime.of(random.nextInt(24), random.nextInt(60), 30 * random.nextInt(2));
+            Duration duration = Duration.ofMinutes(random.nextInt(60));
+            assertEquals(expected.firstGap(after, duration), track.firstGap(after, duration));
+        }
+    }
 }